@@ -0,0 +1,39 @@
+package com.app.tarefaApi.Config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache em memória (Caffeine) das consultas por id. Tamanho e TTL ficam em spring.cache.caffeine.spec
+ * e as estatísticas são publicadas pelo actuator em /actuator/metrics/cache.*.
+ * Dentro de uma transação, put e evict só são aplicados depois do commit: uma leitura concorrente não volta
+ * a guardar a versão antiga que a transação ainda não substituiu, e um rollback não descarta entradas válidas.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String CACHE_TAREFAS = "tarefas";
+    public static final String CACHE_USUARIOS = "usuarios";
+
+    // Substitui o CacheManager da autoconfiguração, montado com as mesmas propriedades spring.cache.*.
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeine.setCacheSpecification(spec);
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeine.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,182 @@
+package com.app.tarefaApi.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Faz valer server.compression.min-response-size nas respostas JSON. O Tomcat só deixa de compactar
+ * quando conhece o Content-Length, e os conversores do Jackson escrevem sem ele. Este filtro segura os
+ * primeiros min-response-size bytes das respostas compactáveis. Se a resposta termina antes disso, é
+ * enviada inteira com Content-Length e sem gzip. Se passa do limite, segue em fluxo e o Tomcat compacta.
+ * Respostas de outros tipos (SSE, exportação) e as assíncronas passam direto.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class CompressaoRespostaFilter extends OncePerRequestFilter {
+    @Autowired
+    private ServerProperties serverProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Compression compressao = serverProperties.getCompression();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (!compressao.getEnabled() || !"GET".equals(request.getMethod())
+                || acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RespostaRetida resposta = new RespostaRetida(response, (int) compressao.getMinResponseSize().toBytes(),
+                compressao.getMimeTypes());
+        filterChain.doFilter(request, resposta);
+        resposta.encerrar(request.isAsyncStarted());
+    }
+
+    private static class RespostaRetida extends HttpServletResponseWrapper {
+        private final int limite;
+        private final String[] tiposCompactaveis;
+        private final ByteArrayOutputStream retido = new ByteArrayOutputStream();
+        private boolean liberada;
+        private ServletOutputStream saida;
+        private PrintWriter writer;
+
+        private RespostaRetida(HttpServletResponse response, int limite, String[] tiposCompactaveis) {
+            super(response);
+            this.limite = limite;
+            this.tiposCompactaveis = tiposCompactaveis;
+        }
+
+        @Override
+        public synchronized ServletOutputStream getOutputStream() throws IOException {
+            if (saida == null) {
+                ServletOutputStream original = getResponse().getOutputStream();
+                saida = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        synchronized (RespostaRetida.this) {
+                            if (!liberada && (retido.size() + len > limite || !compactavel())) {
+                                liberar();
+                            }
+                            if (liberada) {
+                                original.write(b, off, len);
+                            } else {
+                                retido.write(b, off, len);
+                            }
+                        }
+                    }
+
+                    // Enquanto retém, ignora o flush do Jackson ao fim da escrita para não enviar os cabeçalhos.
+                    @Override
+                    public void flush() throws IOException {
+                        synchronized (RespostaRetida.this) {
+                            if (liberada) {
+                                original.flush();
+                            }
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return original.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        original.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return saida;
+        }
+
+        @Override
+        public synchronized PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public synchronized void flushBuffer() throws IOException {
+            if (liberada) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public synchronized void resetBuffer() {
+            retido.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public synchronized void reset() {
+            retido.reset();
+            super.reset();
+        }
+
+        private boolean compactavel() {
+            String contentType = getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            try {
+                MediaType tipo = MediaType.parseMediaType(contentType);
+                return Arrays.stream(tiposCompactaveis)
+                        .anyMatch(compactavel -> tipo.equalsTypeAndSubtype(MediaType.parseMediaType(compactavel)));
+            } catch (InvalidMediaTypeException e) {
+                return false;
+            }
+        }
+
+        // A partir daqui tudo vai direto para a resposta original.
+        private synchronized void liberar() throws IOException {
+            if (!liberada) {
+                liberada = true;
+                if (retido.size() > 0) {
+                    retido.writeTo(getResponse().getOutputStream());
+                    retido.reset();
+                }
+            }
+        }
+
+        // Fim da cadeia de filtros. Numa resposta síncrona que coube no limite, envia com Content-Length
+        // conhecido e sem compactação; numa assíncrona, o restante será escrito depois, direto na original.
+        private synchronized void encerrar(boolean assincrona) throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!liberada && !assincrona && retido.size() > 0 && !isCommitted()) {
+                setContentLength(retido.size());
+            }
+            liberar();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.tarefaApi.Config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual, sem alterá-los.
+ * Registrado em hibernate.session_factory.statement_inspector; o MetricasConfig zera a
+ * contagem no início de cada requisição e publica o total ao final.
+ */
+public class ContadorStatementsInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> CONTADOR = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        CONTADOR.get()[0]++;
+        return sql;
+    }
+
+    public static void zerar() {
+        CONTADOR.get()[0] = 0;
+    }
+
+    public static int obter() {
+        return CONTADOR.get()[0];
+    }
+}
@@ -0,0 +1,30 @@
+package com.app.tarefaApi.Config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Formatos binários negociados por Accept: application/cbor e application/x-jackson-smile.
+ * Os conversores padrão do Spring MVC usariam um ObjectMapper próprio; aqui partem do builder do
+ * Spring Boot, com os mesmos módulos e opções (spring.jackson.*) do JSON, e substituem os padrão.
+ * A compactação gzip das respostas fica em server.compression.*.
+ */
+@Configuration
+public class FormatosRespostaConfig {
+
+    // O builder do Spring Boot é prototype: cada conversor recebe uma instância nova.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
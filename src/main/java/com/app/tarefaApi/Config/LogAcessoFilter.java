@@ -0,0 +1,77 @@
+package com.app.tarefaApi.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Log de acesso: um único evento por requisição (método, caminho, status, latência e usuário)
+ * no logger "acesso", que o logback-spring.xml envia a um appender assíncrono.
+ * Roda antes da segurança para registrar também os 401/403; o usuário vem do atributo que o
+ * JwtAuthFilter grava na requisição, já que o SecurityContext é limpo ao fim da cadeia.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LogAcessoFilter extends OncePerRequestFilter {
+    public static final String ATRIBUTO_USUARIO = LogAcessoFilter.class.getName() + ".usuario";
+    private static final Logger acesso = LoggerFactory.getLogger("acesso");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!acesso.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long inicio = System.nanoTime();
+        boolean assincrona = false;
+        try {
+            filterChain.doFilter(request, response);
+            // SSE e respostas em fluxo terminam depois do retorno do filtro: registra ao concluir.
+            if (request.isAsyncStarted()) {
+                assincrona = true;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        registrar(request, response, inicio);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        } finally {
+            if (!assincrona) {
+                registrar(request, response, inicio);
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, HttpServletResponse response, long inicio) {
+        long latenciaMs = (System.nanoTime() - inicio) / 1_000_000;
+        Object usuario = request.getAttribute(ATRIBUTO_USUARIO);
+        acesso.info("metodo={} caminho={} status={} latenciaMs={} usuario={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), latenciaMs,
+                usuario != null ? usuario : "-");
+    }
+}
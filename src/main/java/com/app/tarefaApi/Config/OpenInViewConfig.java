@@ -0,0 +1,32 @@
+package com.app.tarefaApi.Config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open-in-view (spring.jpa.open-in-view, ligado no perfil padrão) registrado aqui no lugar do Spring Boot,
+ * que deixa de registrar o seu quando encontra este bean, para excluir POST /login e POST /registrar. Com open-in-view a
+ * conexão usada para carregar o usuário só volta ao pool no fim da requisição, e o login passaria a espera
+ * e o hash do BCrypt (ver ExecutorPasswordEncoder) segurando uma conexão: numa rajada de logins o pool se
+ * esgota e as demais requisições ficam esperando conexão, sem que o executor de senhas chegue a recusar.
+ * O cadastro tem o mesmo problema com o hash da senha nova (ver UsuarioServiceImpl.registrar).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns("/login", "/registrar");
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.tarefaApi.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Perfil "performance" (ver application-performance.properties). Dimensiona o pool do Hikari
+ * pela quantidade de núcleos (núcleos * 2 + 1, com pool de tamanho fixo), a menos que
+ * spring.datasource.hikari.maximum-pool-size tenha sido informado.
+ */
+@Configuration
+@Profile("performance")
+public class PerformanceConfig {
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceConfig.class);
+    private static final String PROPRIEDADE_POOL = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    public static BeanPostProcessor dimensionamentoPoolConexoes(Environment environment) {
+        return new DimensionamentoPool(environment);
+    }
+
+    private static final class DimensionamentoPool implements BeanPostProcessor, Ordered {
+        private final Environment environment;
+
+        private DimensionamentoPool(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource && !environment.containsProperty(PROPRIEDADE_POOL)) {
+                int nucleos = environment.getProperty("tarefa.performance.nucleos", Integer.class,
+                        Runtime.getRuntime().availableProcessors());
+                int conexoes = nucleos * 2 + 1;
+                HikariDataSource dataSource = (HikariDataSource) bean;
+                dataSource.setMaximumPoolSize(conexoes);
+                dataSource.setMinimumIdle(conexoes);
+                logger.info("Pool de conexões dimensionado para {} conexões ({} núcleos).", conexoes, nucleos);
+            }
+            return bean;
+        }
+
+        // Depois do binding de spring.datasource.hikari.*, que também roda como BeanPostProcessor.
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 public class Tarefa {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefa_seq")
+    @SequenceGenerator(name = "tarefa_seq", sequenceName = "tarefa_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -32,7 +33,11 @@ public class Tarefa {
     @Column
     private LocalDateTime dataCriacao;
 
-    @ManyToOne
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usuario_id")
     private Usuario usuario;
 
@@ -53,6 +58,14 @@ public class Tarefa {
         this.id = id;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     public Usuario getUsuario() {
         return usuario;
     }
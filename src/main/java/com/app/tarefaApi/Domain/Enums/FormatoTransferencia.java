@@ -0,0 +1,7 @@
+package com.app.tarefaApi.Domain.Enums;
+
+
+public enum FormatoTransferencia {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,7 @@
+package com.app.tarefaApi.Domain.Enums;
+
+
+public enum OrdenacaoTarefa {
+    ID,
+    DATA_CRIACAO
+}
@@ -0,0 +1,9 @@
+package com.app.tarefaApi.Domain.Enums;
+
+
+public enum SituacaoAtualizacaoStatus {
+    PENDENTE,
+    APLICADA,
+    REJEITADA,
+    SUBSTITUIDA
+}
@@ -0,0 +1,8 @@
+package com.app.tarefaApi.Domain.Enums;
+
+
+public enum TipoEventoTarefa {
+    CRIADA,
+    ATUALIZADA,
+    EXCLUIDA
+}
@@ -3,13 +3,146 @@ package com.app.tarefaApi.Domain.Repository;
 import com.app.tarefaApi.Domain.Entity.Tarefa;
 import com.app.tarefaApi.Domain.Entity.Usuario;
 import com.app.tarefaApi.Domain.Enums.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 
 @Repository
 public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+    // Tarefa.usuario é LAZY; as consultas que alimentam respostas JSON trazem o usuário no mesmo SELECT.
+    @Override
+    @EntityGraph(attributePaths = "usuario")
+    List<Tarefa> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "usuario")
+    Optional<Tarefa> findById(Long id);
+
+    @EntityGraph(attributePaths = "usuario")
     List<Tarefa> findTarefaByStatus(Status status);
+
+    // Paginação por cursor (keyset): a primeira página não tem cursor, as seguintes partem do último registro lido.
+    @EntityGraph(attributePaths = "usuario")
+    List<Tarefa> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Query("select t from Tarefa t left join fetch t.usuario where t.id > :id order by t.id asc")
+    List<Tarefa> buscarPaginaAposId(@Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "usuario")
+    List<Tarefa> findAllByOrderByDataCriacaoAscIdAsc(Pageable pageable);
+
+    @Query("select t from Tarefa t left join fetch t.usuario where t.dataCriacao > :dataCriacao " +
+            "or (t.dataCriacao = :dataCriacao and t.id > :id) " +
+            "order by t.dataCriacao asc, t.id asc")
+    List<Tarefa> buscarPaginaAposDataCriacao(@Param("dataCriacao") LocalDateTime dataCriacao,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // Busca textual: a consulta nativa usa o índice GIN de tarefa.busca e devolve só os ids na ordem do ranking;
+    // as tarefas são carregadas depois com o usuário no mesmo SELECT.
+    @Query(value = "select t.id from tarefa t, to_tsquery('pt_sem_acento', :consulta) q " +
+            "where t.busca @@ q order by ts_rank(t.busca, q) desc, t.id limit :limite offset :deslocamento",
+            nativeQuery = true)
+    List<Number> buscarIdsPorTexto(@Param("consulta") String consulta,
+                                   @Param("limite") int limite,
+                                   @Param("deslocamento") long deslocamento);
+
+    @EntityGraph(attributePaths = "usuario")
+    List<Tarefa> findByIdIn(Collection<Long> ids);
+
+    // Operações em lote: a verificação do criador fica no WHERE e o RETURNING informa as linhas realmente afetadas
+    // (id, usuario_id, status e, na atualização, o status anterior), usadas também para publicar os eventos de alteração.
+    @Transactional
+    @Query(value = "update tarefa t set status = :status, versao = t.versao + 1 from tarefa anterior " +
+            "where t.id = anterior.id and t.id in (:ids) and t.email_criador = :emailCriador " +
+            "returning t.id, t.usuario_id, t.status, anterior.status as status_anterior", nativeQuery = true)
+    List<Object[]> atualizarStatusEmLote(@Param("ids") List<Long> ids,
+                                       @Param("status") String status,
+                                       @Param("emailCriador") String emailCriador);
+
+    @Transactional
+    @Query(value = "delete from tarefa " +
+            "where id in (:ids) and email_criador = :emailCriador returning id, usuario_id, status", nativeQuery = true)
+    List<Object[]> excluirEmLote(@Param("ids") List<Long> ids,
+                               @Param("emailCriador") String emailCriador);
+
+    // Consultas baratas para responder If-None-Match sem carregar as tarefas.
+    @Query("select t.versao from Tarefa t where t.id = :id")
+    Optional<Long> buscarVersao(@Param("id") Long id);
+
+    // Base da reconciliação dos contadores do resumo: (usuario_id, status, quantidade), incluindo as arquivadas.
+    @Query(value = "select usuario_id, status, sum(quantidade) from (" +
+            "select usuario_id, status, count(*) as quantidade from tarefa group by usuario_id, status " +
+            "union all " +
+            "select usuario_id, status, count(*) from tarefa_arquivo group by usuario_id, status" +
+            ") contagem group by usuario_id, status", nativeQuery = true)
+    List<Object[]> contarPorUsuarioEStatus();
+
+    // Arquivo frio (tarefa_arquivo, ver ArquivamentoTarefas). Move um lote de tarefas concluídas criadas antes
+    // do limite num único comando; SKIP LOCKED deixa de fora as que uma requisição estiver alterando.
+    @Modifying
+    @Transactional
+    @Query(value = "with movidas as (" +
+            "delete from tarefa where id in (" +
+            "select id from tarefa where status = 'CONCLUIDA' and data_criacao < :limite " +
+            "order by data_criacao, id limit :lote for update skip locked) " +
+            "returning id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao) " +
+            "insert into tarefa_arquivo (id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao) " +
+            "select id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao from movidas",
+            nativeQuery = true)
+    int arquivarConcluidas(@Param("limite") LocalDateTime limite, @Param("lote") int lote);
+
+    // Devolve à tabela principal as tarefas arquivadas do criador, antes de alterá-las ou excluí-las.
+    @Modifying
+    @Transactional
+    @Query(value = "with restauradas as (" +
+            "delete from tarefa_arquivo where id in (:ids) and email_criador = :emailCriador " +
+            "returning id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao) " +
+            "insert into tarefa (id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao) " +
+            "select id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao from restauradas",
+            nativeQuery = true)
+    int restaurarArquivadas(@Param("ids") List<Long> ids, @Param("emailCriador") String emailCriador);
+
+    // As tarefas do arquivo, com o responsável, são lidas em TarefaServiceImpl (consultaArquivadas).
+    @Query(value = "select versao from tarefa_arquivo where id = :id", nativeQuery = true)
+    Optional<Long> buscarVersaoArquivada(@Param("id") Long id);
+
+    @Query(value = "select email_criador from tarefa_arquivo where id = :id", nativeQuery = true)
+    Optional<String> buscarCriadorArquivada(@Param("id") Long id);
+
+    // Reconciliação da versão da listagem (ver VersaoListagemTarefas).
+    @Query("select count(t) as quantidade, coalesce(max(t.id), 0) as maiorId, " +
+            "coalesce(sum(t.versao), 0) as somaVersoes from Tarefa t")
+    VersaoListagem buscarVersaoListagem();
+
+    interface VersaoListagem {
+        Long getQuantidade();
+        Long getMaiorId();
+        Long getSomaVersoes();
+    }
+
+    // Lê a tabela por um cursor JDBC; precisa ser consumido dentro de uma transação.
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t from Tarefa t left join fetch t.usuario order by t.id asc")
+    Stream<Tarefa> streamTodasTarefas();
 }
@@ -0,0 +1,50 @@
+package com.app.tarefaApi.Domain.Repository;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Enums.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros combináveis de Tarefa. Cada filtro só entra na consulta quando informado,
+ * para que o PostgreSQL escolha o índice composto correspondente.
+ */
+public final class TarefaSpecifications {
+
+    private TarefaSpecifications() {
+    }
+
+    public static Specification<Tarefa> comStatus(Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Tarefa> doUsuario(Long idUsuario) {
+        return (root, query, cb) -> idUsuario == null ? null : cb.equal(root.get("usuario").get("id"), idUsuario);
+    }
+
+    public static Specification<Tarefa> doCriador(String emailCriador) {
+        return (root, query, cb) -> emailCriador == null ? null : cb.equal(root.get("emailCriador"), emailCriador);
+    }
+
+    public static Specification<Tarefa> criadaDesde(LocalDateTime dataInicio) {
+        return (root, query, cb) -> dataInicio == null ? null
+                : cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dataCriacao"), dataInicio);
+    }
+
+    public static Specification<Tarefa> criadaAte(LocalDateTime dataFim) {
+        return (root, query, cb) -> dataFim == null ? null
+                : cb.lessThan(root.<LocalDateTime>get("dataCriacao"), dataFim);
+    }
+
+    /**
+     * Continua a partir do último registro da página anterior, na ordem (dataCriacao, id).
+     */
+    public static Specification<Tarefa> aposCursor(LocalDateTime dataCriacao, Long id) {
+        return (root, query, cb) -> dataCriacao == null ? null : cb.or(
+                cb.greaterThan(root.<LocalDateTime>get("dataCriacao"), dataCriacao),
+                cb.and(
+                        cb.equal(root.get("dataCriacao"), dataCriacao),
+                        cb.greaterThan(root.<Long>get("id"), id)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.tarefaApi.Exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    private final long retryAfterSegundos;
+
+    public ServiceUnavailableException(String message, long retryAfterSegundos){
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
@@ -1,10 +1,26 @@
 package com.app.tarefaApi.Rest.Controller;
 
 import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Enums.FormatoTransferencia;
+import com.app.tarefaApi.Domain.Enums.OrdenacaoTarefa;
 import com.app.tarefaApi.Domain.Enums.Status;
 import com.app.tarefaApi.Exception.TaskNotFoundException;
 import com.app.tarefaApi.Exception.UserNotFoundException;
+import com.app.tarefaApi.Rest.DTO.AtualizacaoStatusDTO;
+import com.app.tarefaApi.Rest.DTO.FiltroTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.HistoricoTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.OperacaoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.PaginaTarefasDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoImportacaoDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoOperacaoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResumoTarefasDTO;
+import com.app.tarefaApi.Rest.DTO.StatusTarefaDTO;
 import com.app.tarefaApi.Rest.DTO.TarefaDTO;
+import com.app.tarefaApi.Rest.DTO.TarefasColunaresDTO;
+import com.app.tarefaApi.Service.Eventos.EventosTarefaHub;
+import com.app.tarefaApi.Service.Fila.FilaStatusTarefa;
+import com.app.tarefaApi.Service.Historico.HistoricoTarefa;
 import com.app.tarefaApi.Service.Impl.TarefaServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,24 +33,64 @@ import lombok.Builder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
 
 @Builder
 @RestController
 @RequestMapping("api/tarefas")
 @Tag(name = "Tarefas", description = "Endpoints para gestão de tarefas")
 public class TarefaController {
+    // If-Match: lista de entity-tags separadas por vírgula (RFC 7232).
+    private static final Pattern ETAG = Pattern.compile("\\s*(W/)?\"([^\"]*)\"\\s*(,|$)");
+
     @Autowired
     private TarefaServiceImpl tarefaService;
 
+    @Autowired
+    private EventosTarefaHub eventosTarefaHub;
+
+    @Autowired
+    private FilaStatusTarefa filaStatusTarefa;
+
+    @Autowired
+    private HistoricoTarefa historicoTarefa;
+
     private static final Logger logger = LoggerFactory.getLogger(TarefaController.class);
+    private static final MediaType MEDIA_TYPE_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int TAMANHO_BUFFER_TRANSFERENCIA = 65536;
+    private static final String DESCRICAO_FORMATOS_LISTAGEM = "Formato pelo Accept: application/json (padrão), "
+            + TarefasColunaresDTO.MEDIA_TYPE_VALUE + " (um array por campo, responsáveis listados uma vez), "
+            + "application/cbor ou application/x-jackson-smile. Com Accept-Encoding: gzip a resposta vem compactada.";
 
 
     @Operation(summary = "Cria uma nova tarefa")
@@ -45,10 +101,10 @@ public class TarefaController {
     })
     @PostMapping
     public ResponseEntity<?> criarTarefa(@RequestBody TarefaDTO tarefaDTO) {
-        logger.info("Recebendo solicitação para criar tarefa.");
+        logger.debug("Recebendo solicitação para criar tarefa.");
         try {
             Tarefa tarefa = tarefaService.criarTarefa(tarefaDTO);
-            logger.info("Tarefa criada com sucesso: {}", tarefa);
+            logger.debug("Tarefa criada com sucesso: {}", tarefa.getId());
             return ResponseEntity.status(HttpStatus.CREATED).body(tarefa);
         } catch (UserNotFoundException e) {
             logger.warn("Usuário não encontrado ao tentar criar tarefa: {}", e.getMessage());
@@ -60,32 +116,285 @@ public class TarefaController {
     }
 
 
-    @Operation(summary = "Lista todas as tarefas")
+    @Operation(summary = "Cria tarefas em lote", description = "Cria várias tarefas em uma única requisição, gravando em lotes JDBC. Retorna o resultado de cada item na ordem enviada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Lote acima do limite permitido"),
+            @ApiResponse(responseCode = "404", description = "Usuário criador não encontrado")
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO>> criarTarefasEmLote(@RequestBody List<TarefaDTO> tarefasDTO) throws UserNotFoundException {
+        logger.debug("Recebendo solicitação para criar {} tarefas em lote.", tarefasDTO.size());
+        List<ResultadoLoteDTO> resultados = tarefaService.criarTarefasEmLote(tarefasDTO);
+        logger.debug("Lote processado: {} de {} tarefas criadas.",
+                resultados.stream().filter(ResultadoLoteDTO::isSucesso).count(), resultados.size());
+        return ResponseEntity.ok(resultados);
+    }
+
+
+    @Operation(summary = "Atualiza o status de tarefas em lote", description = "Atualiza o status das tarefas informadas em um único comando. Apenas as tarefas criadas pelo usuário autenticado são alteradas; as demais voltam como rejeitadas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Status ausente ou lote acima do limite permitido")
+    })
+    @PatchMapping("/lote/status")
+    public ResponseEntity<ResultadoOperacaoLoteDTO> atualizarStatusEmLote(@RequestBody OperacaoLoteDTO operacaoLoteDTO) {
+        logger.debug("Recebendo solicitação para atualizar status de tarefas em lote para {}.", operacaoLoteDTO.getStatus());
+        ResultadoOperacaoLoteDTO resultado = tarefaService.atualizarStatusEmLote(operacaoLoteDTO.getIds(), operacaoLoteDTO.getStatus());
+        logger.debug("Tarefas atualizadas: {}, rejeitadas: {}.", resultado.getAfetados().size(), resultado.getRejeitados().size());
+        return ResponseEntity.ok(resultado);
+    }
+
+
+    @Operation(summary = "Atualiza o status de uma tarefa de forma assíncrona", description = "Enfileira a mudança de status e responde sem esperar a gravação, que é feita em lote logo depois. Atualizações seguidas da mesma tarefa valem pela última. Acompanhe o resultado pelo id retornado (header Location). Apenas o criador da tarefa pode alterá-la.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Atualização enfileirada"),
+            @ApiResponse(responseCode = "400", description = "Status ausente"),
+            @ApiResponse(responseCode = "503", description = "Fila cheia ou aplicação encerrando")
+    })
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<AtualizacaoStatusDTO> atualizarStatusAssincrono(
+            @Parameter(description = "ID da tarefa") @PathVariable Long id,
+            @RequestBody StatusTarefaDTO statusTarefaDTO) {
+        AtualizacaoStatusDTO atualizacao = filaStatusTarefa.enfileirar(id, statusTarefaDTO.getStatus());
+        logger.debug("Atualização de status da tarefa {} enfileirada: {}", id, atualizacao.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tarefas/atualizacoes-status/" + atualizacao.getId()))
+                .body(atualizacao);
+    }
+
+
+    @Operation(summary = "Consulta uma atualização de status assíncrona", description = "Situação da atualização: PENDENTE, APLICADA, REJEITADA (tarefa inexistente ou de outro criador) ou SUBSTITUIDA por outra mais recente do mesmo usuário para a mesma tarefa. Fica disponível por um tempo limitado após o recebimento.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Atualização encontrada"),
+            @ApiResponse(responseCode = "404", description = "Atualização inexistente, expirada ou de outro usuário")
+    })
+    @GetMapping("/atualizacoes-status/{idAtualizacao}")
+    public ResponseEntity<AtualizacaoStatusDTO> consultarAtualizacaoStatus(@PathVariable String idAtualizacao) {
+        return filaStatusTarefa.consultar(idAtualizacao)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+
+    @Operation(summary = "Exclui tarefas em lote", description = "Exclui as tarefas informadas em um único comando. Apenas as tarefas criadas pelo usuário autenticado são excluídas; as demais voltam como rejeitadas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado"),
+            @ApiResponse(responseCode = "400", description = "Lote acima do limite permitido")
+    })
+    @PostMapping("/lote/exclusao")
+    public ResponseEntity<ResultadoOperacaoLoteDTO> excluirEmLote(@RequestBody OperacaoLoteDTO operacaoLoteDTO) {
+        logger.debug("Recebendo solicitação para excluir tarefas em lote.");
+        ResultadoOperacaoLoteDTO resultado = tarefaService.excluirEmLote(operacaoLoteDTO.getIds());
+        logger.debug("Tarefas excluídas: {}, rejeitadas: {}.", resultado.getAfetados().size(), resultado.getRejeitados().size());
+        return ResponseEntity.ok(resultado);
+    }
+
+
+    @Operation(summary = "Lista todas as tarefas", description = "Só as tarefas ativas; as concluídas arquivadas são listadas em /arquivadas. " + DESCRICAO_FORMATOS_LISTAGEM)
     @ApiResponse(responseCode = "200", description = "Listagem bem-sucedida")
     @GetMapping
-    public ResponseEntity<List<Tarefa>> listarTodasTarefas(){
-        logger.info("Listando todas as tarefas.");
+    public ResponseEntity<?> listarTodasTarefas(WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        logger.debug("Listando todas as tarefas.");
+        // A versão da listagem muda a cada inclusão, exclusão ou atualização; se o cliente já a tem, responde 304.
+        // É lida antes das tarefas e não consulta o banco (ver VersaoListagemTarefas).
+        // ETag fraco: vale para todos os formatos e para a resposta compactada (o Tomcat não compacta com ETag forte).
+        String etag = "W/\"" + tarefaService.obterVersaoListagem() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            logger.debug("Listagem de tarefas não modificada.");
+            return null;
+        }
         List<Tarefa> tarefas =  tarefaService.obterTodasTarefas();
-        logger.info("Total de tarefas encontradas: {}", tarefas.size());
-        return ResponseEntity.ok(tarefas);
+        logger.debug("Total de tarefas encontradas: {}", tarefas.size());
+        return listagem(tarefas, accept, ResponseEntity.ok().eTag(etag));
+    }
+
+
+    @Operation(summary = "Lista tarefas em fluxo NDJSON", description = "Envia uma tarefa por linha à medida que são lidas do banco, sem carregar a tabela inteira em memória. Inclui as tarefas arquivadas, depois das ativas.")
+    @ApiResponse(responseCode = "200", description = "Listagem bem-sucedida")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> listarTodasTarefasNdjson() {
+        logger.debug("Listando todas as tarefas em NDJSON.");
+        StreamingResponseBody corpo = outputStream -> tarefaService.escreverTarefasNdjson(outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+
+    @Operation(summary = "Exporta todas as tarefas em CSV ou NDJSON", description = "Envia as tarefas à medida que são lidas do banco por cursor, sem montar a resposta em memória. Inclui as tarefas arquivadas, depois das ativas. Com Accept-Encoding: gzip a resposta vem compactada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefas exportadas"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportarTarefas(
+            @Parameter(description = "csv ou ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FormatoTransferencia formato = formatoTransferencia(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        logger.debug("Exportando tarefas em {} (gzip: {}).", formato, gzip);
+        StreamingResponseBody corpo = outputStream -> {
+            OutputStream saida = gzip
+                    ? new GZIPOutputStream(outputStream, TAMANHO_BUFFER_TRANSFERENCIA)
+                    : new BufferedOutputStream(outputStream, TAMANHO_BUFFER_TRANSFERENCIA);
+            tarefaService.exportarTarefas(formato, saida);
+            if (saida instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) saida).finish();
+            }
+            saida.flush();
+        };
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(formato == FormatoTransferencia.CSV ? MEDIA_TYPE_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tarefas." + format.toLowerCase() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return resposta.body(corpo);
     }
 
 
-    @Operation(summary = "Busca tarefa pelo ID")
+    @Operation(summary = "Importa tarefas de um arquivo CSV ou NDJSON", description = "O corpo é o próprio arquivo (o que /export gera), lido aos poucos e gravado em lotes; pode vir compactado com Content-Encoding: gzip. O usuário autenticado fica como criador. Registros inválidos são rejeitados com o número da linha e não impedem os demais.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo processado"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido ou CSV sem as colunas obrigatórias"),
+            @ApiResponse(responseCode = "404", description = "Usuário criador não encontrado")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<ResultadoImportacaoDTO> importarTarefas(
+            @Parameter(description = "csv ou ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream corpo) throws IOException, UserNotFoundException {
+        FormatoTransferencia formato = formatoTransferencia(format);
+        ResultadoImportacaoDTO resultado;
+        try {
+            InputStream entrada = "gzip".equalsIgnoreCase(contentEncoding)
+                    ? new GZIPInputStream(corpo, TAMANHO_BUFFER_TRANSFERENCIA)
+                    : corpo;
+            resultado = tarefaService.importarTarefas(formato, entrada);
+        } catch (ZipException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Corpo gzip inválido.");
+        }
+        logger.debug("Importação concluída: {} tarefas importadas, {} rejeitadas.", resultado.getImportadas(), resultado.getRejeitadas());
+        return ResponseEntity.ok(resultado);
+    }
+
+
+    @Operation(summary = "Exporta o histórico de alterações em NDJSON", description = "Envia as alterações do período (dataInicio inclusiva, dataFim exclusiva) uma por linha, em ordem de data, lidas do banco por cursor. Sem datas, exporta os últimos 30 dias.")
+    @ApiResponse(responseCode = "200", description = "Histórico exportado")
+    @GetMapping(value = "/historico/exportacao", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportarHistorico(
+            @Parameter(description = "Início do período (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @Parameter(description = "Fim do período (ISO-8601)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim) {
+        LocalDateTime fim = dataFim != null ? dataFim : LocalDateTime.now();
+        LocalDateTime inicio = dataInicio != null ? dataInicio : fim.minusDays(30);
+        logger.debug("Exportando histórico de {} a {}.", inicio, fim);
+        StreamingResponseBody corpo = outputStream -> historicoTarefa.exportarNdjson(inicio, fim, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+
+    @Operation(summary = "Acompanha alterações de tarefas (SSE)", description = "Envia eventos de criação, atualização e exclusão após o commit, filtrados por responsável e status. Reconectando com Last-Event-ID os eventos perdidos são reenviados; se não estiverem mais disponíveis (ou o id for de antes de um reinício do servidor) é enviado um evento 'reinicio' e o cliente deve recarregar a listagem.")
+    @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto")
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharEventos(
+            @Parameter(description = "ID do usuário responsável") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Status da tarefa") @RequestParam(required = false) Status status,
+            @Parameter(description = "Último evento recebido") @RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+        logger.debug("Novo assinante de eventos (usuário: {}, status: {}).", idUsuario, status);
+        return eventosTarefaHub.assinar(idUsuario, status, ultimoEventoId);
+    }
+
+
+    @Operation(summary = "Lista tarefas paginadas por cursor", description = "Paginação por cursor (keyset) ordenada por id ou data de criação, só das tarefas ativas. Use o nextCursor da resposta para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaTarefasDTO> listarPaginaTarefas(
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de tarefas por página") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação") @RequestParam(defaultValue = "ID") OrdenacaoTarefa ordenacao) {
+        logger.debug("Listando página de tarefas ordenada por {}.", ordenacao);
+        PaginaTarefasDTO pagina = tarefaService.listarPaginaTarefas(cursor, tamanho, ordenacao);
+        logger.debug("Total de tarefas na página: {}", pagina.getTamanho());
+        return ResponseEntity.ok(pagina);
+    }
+
+
+    @Operation(summary = "Filtra tarefas", description = "Filtra as tarefas ativas por status, responsável, criador e período de criação (dataInicio inclusiva, dataFim exclusiva), com paginação por cursor ordenada por data de criação.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping("/filtro")
+    public ResponseEntity<PaginaTarefasDTO> filtrarTarefas(
+            FiltroTarefaDTO filtro,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de tarefas por página") @RequestParam(required = false) Integer tamanho) {
+        logger.debug("Filtrando tarefas: {}", filtro);
+        PaginaTarefasDTO pagina = tarefaService.filtrarTarefas(filtro, cursor, tamanho);
+        logger.debug("Total de tarefas na página: {}", pagina.getTamanho());
+        return ResponseEntity.ok(pagina);
+    }
+
+
+    @Operation(summary = "Busca tarefas por texto", description = "Busca palavras no título e na descrição das tarefas ativas, sem diferenciar acentos e maiúsculas. Cada palavra vale como prefixo e os resultados vêm ordenados por relevância (título pesa mais que descrição).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Texto da busca vazio ou cursor inválido")
+    })
+    @GetMapping("/busca")
+    public ResponseEntity<PaginaTarefasDTO> buscarTarefas(
+            @Parameter(description = "Palavras a buscar") @RequestParam String q,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de tarefas por página") @RequestParam(required = false) Integer tamanho) {
+        logger.debug("Buscando tarefas pelo texto: {}", q);
+        PaginaTarefasDTO pagina = tarefaService.buscarTarefas(q, cursor, tamanho);
+        logger.debug("Total de tarefas na página: {}", pagina.getTamanho());
+        return ResponseEntity.ok(pagina);
+    }
+
+
+    @Operation(summary = "Busca tarefa pelo ID", description = "Encontra também as tarefas arquivadas.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tarefa encontrada"),
+            @ApiResponse(responseCode = "304", description = "Tarefa não modificada desde o ETag informado"),
             @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Optional<Tarefa>> buscarTarefaPorId(@PathVariable Long id) throws TaskNotFoundException {
-        logger.info("Buscando tarefa com ID: {}", id);
+    public ResponseEntity<Optional<Tarefa>> buscarTarefaPorId(@PathVariable Long id, WebRequest webRequest) throws TaskNotFoundException {
+        logger.debug("Buscando tarefa com ID: {}", id);
+        // Com If-None-Match, consulta só a versão antes de carregar a tarefa.
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> versao = tarefaService.obterVersaoTarefa(id);
+            if (versao.isPresent() && webRequest.checkNotModified(etagTarefa(id, versao.get()))) {
+                logger.debug("Tarefa com ID {} não modificada.", id);
+                return null;
+            }
+        }
         Optional<Tarefa> tarefa = tarefaService.obterTarefaPorId(id);
         if (tarefa.isPresent()) {
-            logger.info("Tarefa encontrada: {}", tarefa);
+            logger.debug("Tarefa com ID {} encontrada.", id);
         } else {
             logger.warn("Tarefa com ID {} não encontrada.", id);
         }
-        return ResponseEntity.ok(tarefa);
+        return ResponseEntity.ok()
+                .eTag(etagTarefa(id, tarefa.get().getVersao()))
+                .body(tarefa);
+    }
+
+
+    @Operation(summary = "Histórico de uma tarefa", description = "Alterações da tarefa em ordem cronológica: criação, atualizações e exclusão, com status anterior e novo e o email de quem alterou. Continua disponível depois que a tarefa é excluída.")
+    @ApiResponse(responseCode = "200", description = "Histórico retornado (vazio se a tarefa nunca existiu)")
+    @GetMapping("/{id}/historico")
+    public ResponseEntity<List<HistoricoTarefaDTO>> obterHistorico(@Parameter(description = "ID da tarefa") @PathVariable Long id) {
+        return ResponseEntity.ok(historicoTarefa.listarPorTarefa(id));
     }
 
 
@@ -96,34 +405,92 @@ public class TarefaController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarTarefa(@PathVariable Long id) throws TaskNotFoundException {
-        logger.info("Tentativa de exclusão da tarefa com ID: {}", id);
+        logger.debug("Tentativa de exclusão da tarefa com ID: {}", id);
         tarefaService.excluiTarefa(id);
-        logger.info("Tarefa com ID {} excluída com sucesso.", id);
+        logger.debug("Tarefa com ID {} excluída com sucesso.", id);
         return ResponseEntity.noContent().build();
     }
 
 
-    @Operation(summary = "Busca tarefas pelo status")
+    @Operation(summary = "Resumo de tarefas por status", description = "Quantidade de tarefas por status. Sem idUsuario, os totais de todas as tarefas; com idUsuario, também as do responsável em porUsuario. Lido de contadores em memória, reconciliados periodicamente com o banco.")
+    @ApiResponse(responseCode = "200", description = "Resumo retornado com sucesso")
+    @GetMapping("/resumo")
+    public ResponseEntity<ResumoTarefasDTO> obterResumo(
+            @Parameter(description = "ID do usuário responsável") @RequestParam(required = false) Long idUsuario) {
+        return ResponseEntity.ok(tarefaService.obterResumo(idUsuario));
+    }
+
+
+    @Operation(summary = "Busca tarefas pelo status", description = "Para CONCLUIDA, as ativas seguidas de todas as arquivadas "
+            + "(para percorrer o arquivo aos poucos, use /arquivadas). " + DESCRICAO_FORMATOS_LISTAGEM)
     @ApiResponse(responseCode = "200", description = "Tarefas encontradas")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Tarefa>> buscaTarefaPorStatus(@PathVariable Status status){
-        logger.info("Buscando tarefas com status: {}", status);
+    public ResponseEntity<?> buscaTarefaPorStatus(@PathVariable Status status,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
+        logger.debug("Buscando tarefas com status: {}", status);
         List<Tarefa> tarefas = tarefaService.listaTarefasPorStatus(status);
-        logger.info("Total de tarefas com status {} encontradas: {}", status, tarefas.size());
-        return ResponseEntity.ok(tarefas);
+        logger.debug("Total de tarefas com status {} encontradas: {}", status, tarefas.size());
+        return listagem(tarefas, accept, ResponseEntity.ok());
+    }
+
+
+    @Operation(summary = "Lista tarefas arquivadas", description = "Tarefas concluídas movidas para o arquivo, com paginação por cursor ordenada por id. Use o nextCursor da resposta para buscar a próxima página.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    @GetMapping("/arquivadas")
+    public ResponseEntity<PaginaTarefasDTO> listarTarefasArquivadas(
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de tarefas por página") @RequestParam(required = false) Integer tamanho) {
+        logger.debug("Listando página de tarefas arquivadas.");
+        PaginaTarefasDTO pagina = tarefaService.listarTarefasArquivadas(cursor, tamanho);
+        logger.debug("Total de tarefas arquivadas na página: {}", pagina.getTamanho());
+        return ResponseEntity.ok(pagina);
+    }
+
+    // O formato colunar só é usado quando pedido explicitamente; Accept: */* continua recebendo a lista em JSON.
+    // CBOR e Smile são escolhidos pelos conversores do Spring (ver FormatosRespostaConfig).
+    private ResponseEntity<?> listagem(List<Tarefa> tarefas, String accept, ResponseEntity.BodyBuilder resposta) {
+        resposta.varyBy(HttpHeaders.ACCEPT);
+        if (pedeFormatoColunar(accept)) {
+            return resposta.contentType(TarefasColunaresDTO.MEDIA_TYPE).body(TarefasColunaresDTO.de(tarefas));
+        }
+        return resposta.body(tarefas);
+    }
+
+    private boolean pedeFormatoColunar(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(tipo -> tipo.equalsTypeAndSubtype(TarefasColunaresDTO.MEDIA_TYPE));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 
 
-    @Operation(summary = "Atualizar tarefa", description = "Atualiza os dados de uma tarefa existente. Apenas o criador da tarefa pode atualizá-la.")
+    @Operation(summary = "Atualizar tarefa", description = "Atualiza os dados de uma tarefa existente. Apenas o criador da tarefa pode atualizá-la. Com If-Match (um ou mais ETags), só atualiza se a tarefa ainda estiver em uma das versões informadas.")
     @PutMapping("/{id}")
     public ResponseEntity<?> atualizaTarefa(
             @Parameter(description = "ID da tarefa a ser atualizada") @PathVariable Long id,
+            @Parameter(description = "ETag obtido na leitura da tarefa") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TarefaDTO tarefaDTO) {
-        logger.info("Recebendo solicitação para atualizar tarefa com ID: {}", id);
+        logger.debug("Recebendo solicitação para atualizar tarefa com ID: {}", id);
         try {
-            Tarefa tarefaAtualizada = tarefaService.atualizaTarefa(id, tarefaDTO);
-            logger.info("Tarefa com ID {} atualizada com sucesso.", id);
-            return ResponseEntity.ok(tarefaAtualizada);
+            Tarefa tarefaAtualizada = tarefaService.atualizaTarefa(id, tarefaDTO, versoesDoIfMatch(id, ifMatch));
+            logger.debug("Tarefa com ID {} atualizada com sucesso.", id);
+            return ResponseEntity.ok()
+                    .eTag(etagTarefa(id, tarefaAtualizada.getVersao()))
+                    .body(tarefaAtualizada);
+        } catch (ResponseStatusException e) {
+            logger.warn("Tarefa com ID {} não atualizada: {}", id, e.getReason());
+            return ResponseEntity.status(e.getStatus()).body(e.getReason());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            logger.warn("Tarefa com ID {} alterada por outra requisição durante a atualização.", id);
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body("A tarefa foi alterada por outra requisição.");
         } catch (TaskNotFoundException e) {
             logger.warn("Tarefa com ID {} não encontrada: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -135,21 +502,49 @@ public class TarefaController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao atualizar tarefa.");
         }
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
 
 
+    private FormatoTransferencia formatoTransferencia(String format) {
+        try {
+            return FormatoTransferencia.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato inválido: use csv ou ndjson.");
+        }
+    }
 
+    private String etagTarefa(Long id, Long versao) {
+        return "\"" + id + "-" + versao + "\"";
+    }
 
+    // Versões da tarefa aceitas pelo If-Match: as dos ETags da lista iguais, por comparação forte, a
+    // etagTarefa(id, versao). ETags fracos ou de outra tarefa não aceitam nenhuma versão; sem If-Match ou
+    // com "*" a atualização não é restringida (null).
+    private Set<Long> versoesDoIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versoes = new HashSet<>();
+        Matcher matcher = ETAG.matcher(ifMatch);
+        int posicao = 0;
+        while (posicao < ifMatch.length()) {
+            if (!matcher.find(posicao) || matcher.start() != posicao) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "If-Match inválido.");
+            }
+            posicao = matcher.end();
+            String valor = matcher.group(2);
+            String prefixo = id + "-";
+            if (matcher.group(1) != null || !valor.startsWith(prefixo)) {
+                continue;
+            }
+            try {
+                Long versao = Long.valueOf(valor.substring(prefixo.length()));
+                if (etagTarefa(id, versao).equals("\"" + valor + "\"")) {
+                    versoes.add(versao);
+                }
+            } catch (NumberFormatException e) {
+                // Não é um ETag desta API: não aceita nenhuma versão.
+            }
+        }
+        return versoes;
+    }
+}
@@ -48,9 +48,9 @@ public class UsuarioController {
     })
     @PostMapping("/registrar")
     public ResponseEntity<Usuario> registrarUsuario(@RequestBody Usuario usuario) throws UserAlreadyExistsException {
-        logger.info("Iniciando o registro do usuário com email: {}", usuario.getEmail());
+        logger.debug("Iniciando o registro do usuário com email: {}", usuario.getEmail());
         try {
-            logger.info("Usuário registrado com sucesso: {}", usuario.getEmail());
+            logger.debug("Usuário registrado com sucesso: {}", usuario.getEmail());
             Usuario novoUsuario = usuarioService.registrar(usuario);
             return ResponseEntity.status(HttpStatus.CREATED).body(novoUsuario);
         } catch (UserAlreadyExistsException e) {
@@ -68,7 +68,7 @@ public class UsuarioController {
     })
     @PostMapping("/login")
     public ResponseEntity<TokenDTO> autenticar(@RequestBody LoginDTO loginDTO) throws SenhaInvalidaException {
-        logger.info("Iniciando autenticação para o email: {}", loginDTO.getEmail());
+        logger.debug("Iniciando autenticação para o email: {}", loginDTO.getEmail());
         try {
             Usuario usuario = Usuario.builder()
                     .email(loginDTO.getEmail())
@@ -76,8 +76,8 @@ public class UsuarioController {
                     .build();
 
             UserDetails usuarioAutenticado = usuarioService.autenticar(usuario);
-            String token = jwtService.gerarToken(usuario);
-            logger.info("Autenticação bem-sucedida para o email: {}", loginDTO.getEmail());
+            String token = jwtService.gerarToken(usuarioAutenticado);
+            logger.debug("Autenticação bem-sucedida para o email: {}", loginDTO.getEmail());
             return ResponseEntity.ok(new TokenDTO(usuario.getEmail(), token));
         } catch (UsernameNotFoundException | SenhaInvalidaException e) {
             logger.error("Erro de autenticação para o email {}: {}", loginDTO.getEmail(), e.getMessage());
@@ -93,9 +93,9 @@ public class UsuarioController {
     })
     @GetMapping("/usuarios/{id}")
     public ResponseEntity<Optional<Usuario>> getUsuarioById(@PathVariable Long id) throws UserNotFoundException {
-        logger.info("Buscando usuário pelo ID: {}", id);
+        logger.debug("Buscando usuário pelo ID: {}", id);
         Optional<Usuario> usuario = usuarioService.obterUsuarioPorId(id);
-        logger.info("Usuário encontrado: {}", usuario);
+        logger.debug("Usuário com ID {} encontrado: {}", id, usuario.isPresent());
         return ResponseEntity.ok(usuario);
     }
 
@@ -105,9 +105,9 @@ public class UsuarioController {
     @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso")
     @GetMapping("/usuarios")
     public ResponseEntity<List<Usuario>> listarUsuarios() {
-        logger.info("Listando todos os usuários registrados");
+        logger.debug("Listando todos os usuários registrados");
         List<Usuario> usuarios = usuarioService.listarUsuarios();
-        logger.info("Número de usuários encontrados: {}", usuarios.size());
+        logger.debug("Número de usuários encontrados: {}", usuarios.size());
         return ResponseEntity.ok(usuarios);
     }
 
@@ -120,9 +120,9 @@ public class UsuarioController {
     })
     @DeleteMapping("/usuarios/{id}")
     public ResponseEntity<Void> excluirUsuario(@PathVariable Long id) throws UserNotFoundException {
-        logger.info("Excluindo usuário com ID: {}", id);
+        logger.debug("Excluindo usuário com ID: {}", id);
         usuarioService.excluirUsuario(id);
-        logger.info("Usuário com ID {} excluído com sucesso", id);
+        logger.debug("Usuário com ID {} excluído com sucesso", id);
         return ResponseEntity.noContent().build();
     }
 
@@ -0,0 +1,24 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.SituacaoAtualizacaoStatus;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtualizacaoStatusDTO {
+    private String id;
+    private Long idTarefa;
+    private Status status;
+    private SituacaoAtualizacaoStatus situacao;
+    private LocalDateTime dataRecebimento;
+    private LocalDateTime dataProcessamento;
+    @JsonIgnore
+    private String emailSolicitante;
+}
@@ -0,0 +1,13 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErroImportacaoDTO {
+    private long linha;
+    private String mensagem;
+}
@@ -0,0 +1,31 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Enums.TipoEventoTarefa;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoTarefaDTO {
+    private long id;
+    private TipoEventoTarefa tipo;
+    private Long idTarefa;
+    private Long idUsuario;
+    private Status status;
+    private Status statusAnterior;
+    private LocalDateTime dataEvento;
+    // Vai para o histórico; não é enviado aos assinantes de /api/tarefas/eventos.
+    @JsonIgnore
+    private String emailAutor;
+
+    public EventoTarefaDTO(TipoEventoTarefa tipo, Long idTarefa, Long idUsuario, Status status, Status statusAnterior,
+                           String emailAutor) {
+        this(0, tipo, idTarefa, idUsuario, status, statusAnterior, LocalDateTime.now(), emailAutor);
+    }
+}
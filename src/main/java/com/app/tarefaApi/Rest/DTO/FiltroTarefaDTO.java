@@ -0,0 +1,22 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroTarefaDTO {
+    private Status status;
+    private Long idUsuario;
+    private String emailCriador;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataInicio;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataFim;
+}
@@ -0,0 +1,22 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Enums.TipoEventoTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoricoTarefaDTO {
+    private long id;
+    private Long idTarefa;
+    private TipoEventoTarefa tipo;
+    private Status statusAnterior;
+    private Status statusNovo;
+    private String emailAutor;
+    private LocalDateTime dataAlteracao;
+}
@@ -0,0 +1,16 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OperacaoLoteDTO {
+    private List<Long> ids;
+    private Status status;
+}
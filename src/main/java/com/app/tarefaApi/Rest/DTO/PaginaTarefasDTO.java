@@ -0,0 +1,17 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaTarefasDTO {
+    private List<Tarefa> tarefas;
+    private int tamanho;
+    private String nextCursor;
+}
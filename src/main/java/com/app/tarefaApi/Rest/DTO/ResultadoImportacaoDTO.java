@@ -0,0 +1,19 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoImportacaoDTO {
+    private long importadas;
+    private long rejeitadas;
+    private List<ErroImportacaoDTO> erros = new ArrayList<>();
+    // Só os primeiros erros são listados; rejeitadas traz o total.
+    private boolean errosOmitidos;
+}
@@ -0,0 +1,15 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoLoteDTO {
+    private int indice;
+    private Long id;
+    private boolean sucesso;
+    private String erro;
+}
@@ -0,0 +1,15 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoOperacaoLoteDTO {
+    private List<Long> afetados;
+    private List<Long> rejeitados;
+}
@@ -0,0 +1,19 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoTarefasDTO {
+    private Map<Status, Long> porStatus;
+    private long total;
+    private Map<Long, Map<Status, Long>> porUsuario;
+    private LocalDateTime ultimaReconciliacao;
+}
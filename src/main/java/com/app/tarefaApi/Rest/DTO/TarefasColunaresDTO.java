@@ -0,0 +1,66 @@
+package com.app.tarefaApi.Rest.DTO;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Entity.Usuario;
+import com.app.tarefaApi.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Listagem de tarefas em colunas (Accept: application/vnd.tarefas.colunar+json): um array por campo,
+ * todos na mesma ordem, e cada responsável uma única vez em usuarios, referenciado por idsUsuario.
+ * Evita repetir os nomes dos campos e o objeto do usuário em cada tarefa.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefasColunaresDTO {
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.tarefas.colunar+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private int quantidade;
+    private List<Usuario> usuarios;
+    private List<Long> ids;
+    private List<String> titulos;
+    private List<String> descricoes;
+    private List<Status> status;
+    private List<String> criadores;
+    private List<String> emailsCriador;
+    private List<LocalDateTime> datasCriacao;
+    private List<Long> idsUsuario;
+    private List<Long> versoes;
+
+    public static TarefasColunaresDTO de(List<Tarefa> tarefas) {
+        int quantidade = tarefas.size();
+        Map<Long, Usuario> usuarios = new LinkedHashMap<>();
+        TarefasColunaresDTO colunas = new TarefasColunaresDTO(quantidade, null,
+                new ArrayList<>(quantidade), new ArrayList<>(quantidade), new ArrayList<>(quantidade),
+                new ArrayList<>(quantidade), new ArrayList<>(quantidade), new ArrayList<>(quantidade),
+                new ArrayList<>(quantidade), new ArrayList<>(quantidade), new ArrayList<>(quantidade));
+        for (Tarefa tarefa : tarefas) {
+            Usuario usuario = tarefa.getUsuario();
+            if (usuario != null) {
+                usuarios.putIfAbsent(usuario.getId(), usuario);
+            }
+            colunas.ids.add(tarefa.getId());
+            colunas.titulos.add(tarefa.getTitulo());
+            colunas.descricoes.add(tarefa.getDescricao());
+            colunas.status.add(tarefa.getStatus());
+            colunas.criadores.add(tarefa.getCriador());
+            colunas.emailsCriador.add(tarefa.getEmailCriador());
+            colunas.datasCriacao.add(tarefa.getDataCriacao());
+            colunas.idsUsuario.add(usuario != null ? usuario.getId() : null);
+            colunas.versoes.add(tarefa.getVersao());
+        }
+        colunas.usuarios = new ArrayList<>(usuarios.values());
+        return colunas;
+    }
+}
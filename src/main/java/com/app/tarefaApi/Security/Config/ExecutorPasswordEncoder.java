@@ -0,0 +1,93 @@
+package com.app.tarefaApi.Security.Config;
+
+import com.app.tarefaApi.Exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa o hash de senhas em um executor próprio e limitado, para que uma rajada de logins
+ * não ocupe toda a CPU e as threads do Tomcat. Com o executor cheio, recusa na hora com 503.
+ * O tempo de espera na fila e o tempo do hash são medidos separadamente.
+ */
+public class ExecutorPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long retryAfterSegundos;
+    private final Timer tempoEspera;
+    private final Timer tempoEncode;
+    private final Timer tempoMatches;
+
+    public ExecutorPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, long retryAfterSegundos,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.retryAfterSegundos = retryAfterSegundos;
+        this.tempoEspera = Timer.builder("seguranca.senha.espera")
+                .description("Tempo na fila do executor de hash de senhas")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tempoEncode = tempoHash(meterRegistry, "encode");
+        this.tempoMatches = tempoHash(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(tempoEncode, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(tempoMatches, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Chamado pelo Spring ao fechar o contexto (destroy method inferido do @Bean).
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Timer tempoHash(MeterRegistry meterRegistry, String operacao) {
+        return Timer.builder("seguranca.senha.hash")
+                .description("Tempo de CPU do BCrypt, sem a espera na fila")
+                .tag("operacao", operacao)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private <T> T executar(Timer tempoHash, Callable<T> tarefa) {
+        long submetido = System.nanoTime();
+        Future<T> resultado;
+        try {
+            resultado = executor.submit(() -> {
+                tempoEspera.record(System.nanoTime() - submetido, TimeUnit.NANOSECONDS);
+                return tempoHash.recordCallable(tarefa);
+            });
+        } catch (TaskRejectedException e) {
+            throw new ServiceUnavailableException("Servidor ocupado. Tente novamente em instantes.", retryAfterSegundos);
+        }
+        try {
+            return resultado.get();
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de senha interrompido.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.app.tarefaApi.Security.Config;
 
 import com.app.tarefaApi.Security.Jwt.JwtAuthFilter;
 import com.app.tarefaApi.Security.Jwt.JwtService;
+import com.app.tarefaApi.Security.Jwt.PrincipalCache;
 import com.app.tarefaApi.Service.Impl.UsuarioServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -17,6 +20,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.token.TokenService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -30,14 +34,48 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.jwt.principal-por-claims:true}")
+    private boolean principalPorClaims;
+
+    @Value("${security.senha.bcrypt-forca:10}")
+    private int forcaBcrypt;
+
+    @Value("${security.senha.threads:0}")
+    private int threadsSenha;
+
+    @Value("${security.senha.fila:32}")
+    private int filaSenha;
+
+    @Value("${security.senha.retry-after-segundos:1}")
+    private long retryAfterSegundos;
+
+    // Não é exposto como bean: um Executor no contexto desligaria o executor padrão do Spring MVC.
+    private ThreadPoolTaskExecutor criarSenhaExecutor(){
+        // Por padrão usa metade dos núcleos, deixando CPU para as demais requisições.
+        int threads = threadsSenha > 0 ? threadsSenha : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(filaSenha);
+        executor.setThreadNamePrefix("senha-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+        return new ExecutorPasswordEncoder(new BCryptPasswordEncoder(forcaBcrypt), criarSenhaExecutor(), retryAfterSegundos, meterRegistry);
     }
 
     @Bean
     public OncePerRequestFilter jwtFilter(){
-        return new JwtAuthFilter(jwtService, usuarioService);
+        return new JwtAuthFilter(jwtService, usuarioService, principalCache, principalPorClaims, meterRegistry);
     }
 
 
@@ -57,6 +95,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .hasAnyRole("USER", "ADMIN")
                 .antMatchers("/login/**")
                 .permitAll()
+                // Health e scrape do Prometheus sem token; em produção restringir pela rede ou management.server.port.
+                .antMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus")
+                .permitAll()
                 .antMatchers(HttpMethod.DELETE, "/usuarios/**")
                 .hasAnyRole("USER", "ADMIN")
                 .antMatchers(HttpMethod.GET, "/usuarios/**")
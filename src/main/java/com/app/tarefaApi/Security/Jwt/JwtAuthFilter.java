@@ -1,6 +1,10 @@
 package com.app.tarefaApi.Security.Jwt;
 
+import com.app.tarefaApi.Config.LogAcessoFilter;
 import com.app.tarefaApi.Service.Impl.UsuarioServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,14 +16,27 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 public class JwtAuthFilter extends OncePerRequestFilter {
     private JwtService jwtService;
     private UsuarioServiceImpl usuarioService;
+    private PrincipalCache principalCache;
+    private boolean principalPorClaims;
+    private MeterRegistry meterRegistry;
 
     public JwtAuthFilter( JwtService jwtService, UsuarioServiceImpl usuarioService ) {
+        this(jwtService, usuarioService, null, false, null);
+    }
+
+    public JwtAuthFilter( JwtService jwtService, UsuarioServiceImpl usuarioService,
+                          PrincipalCache principalCache, boolean principalPorClaims,
+                          MeterRegistry meterRegistry ) {
         this.jwtService = jwtService;
         this.usuarioService = usuarioService;
+        this.principalCache = principalCache;
+        this.principalPorClaims = principalPorClaims;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -31,21 +48,62 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String authorization = httpServletRequest.getHeader("Authorization");
 
         if( authorization != null && authorization.startsWith("Bearer")){
-            String token = authorization.split(" ")[1];
-            boolean isValid = jwtService.tokenValido(token);
-
-            if(isValid){
-                String loginUsuario = jwtService.obterLoginUsuario(token);
-                UserDetails usuario = usuarioService.loadUserByUsername(loginUsuario);
-                UsernamePasswordAuthenticationToken user = new
-                        UsernamePasswordAuthenticationToken(usuario,null,
-                        usuario.getAuthorities());
-                user.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpServletRequest));
-                SecurityContextHolder.getContext().setAuthentication(user);
+            // Mede só a autenticação (validação do token e obtenção do usuário), não o resto da cadeia.
+            Timer.Sample amostra = meterRegistry != null ? Timer.start(meterRegistry) : null;
+            String resultado = autenticar(httpServletRequest, authorization);
+            if (amostra != null) {
+                amostra.stop(Timer.builder("seguranca.jwt.autenticacao")
+                        .tag("resultado", resultado)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
             }
         }
 
         filterChain.doFilter(httpServletRequest, httpServletResponse);
 
     }
+
+    private String autenticar(HttpServletRequest httpServletRequest, String authorization) {
+        String token = authorization.split(" ")[1];
+        Optional<Claims> claims = jwtService.validarToken(token);
+
+        if(!claims.isPresent()){
+            return "token_invalido";
+        }
+        String loginUsuario = claims.get().getSubject();
+        UserDetails usuario = obterUsuario(loginUsuario, claims.get());
+        if (usuario == null) {
+            return "revogado";
+        }
+        UsernamePasswordAuthenticationToken user = new
+                UsernamePasswordAuthenticationToken(usuario,null,
+                usuario.getAuthorities());
+        user.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpServletRequest));
+        SecurityContextHolder.getContext().setAuthentication(user);
+        httpServletRequest.setAttribute(LogAcessoFilter.ATRIBUTO_USUARIO, loginUsuario);
+        return "autenticado";
+    }
+
+    private UserDetails obterUsuario(String loginUsuario, Claims claims) {
+        if (principalCache == null) {
+            return usuarioService.loadUserByUsername(loginUsuario);
+        }
+        // Usuário excluído: os tokens emitidos até a exclusão deixam de valer imediatamente.
+        if (principalCache.revogado(loginUsuario, claims.getIssuedAt())) {
+            return null;
+        }
+        if (principalPorClaims) {
+            Optional<UsuarioAutenticado> usuario = jwtService.obterUsuarioAutenticado(claims);
+            if (usuario.isPresent()) {
+                return usuario.get();
+            }
+        }
+        // Tokens sem perfis nas claims (ou modo desligado) consultam o banco, com cache de curta duração.
+        UserDetails usuario = principalCache.obter(loginUsuario);
+        if (usuario == null) {
+            usuario = usuarioService.loadUserByUsername(loginUsuario);
+            principalCache.guardar(loginUsuario, usuario);
+        }
+        return usuario;
+    }
 }
@@ -3,38 +3,101 @@ package com.app.tarefaApi.Security.Jwt;
 import com.app.tarefaApi.Domain.Entity.Usuario;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
+    public static final String CLAIM_ID = "id";
+    public static final String CLAIM_PERFIS = "perfis";
+
     @Value("${security.jwt.expiracao}")
     private String expiracao;
 
     @Value("${security.jwt.chave-assinatura}")
     private String chaveAssinatura;
 
+    @Autowired
+    private JwtTokenCache tokenCache;
+
     public String gerarToken( Usuario usuario ){
         long expString = Long.valueOf(expiracao);
-        LocalDateTime dataHoraExpiracao = LocalDateTime.now().plusMinutes(expString);
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime dataHoraExpiracao = agora.plusMinutes(expString);
         Instant instant = dataHoraExpiracao.atZone(ZoneId.systemDefault()).toInstant();
         Date data = Date.from(instant);
 
         return Jwts
                 .builder()
                 .setSubject(usuario.getEmail())
+                .setIssuedAt(Date.from(agora.atZone(ZoneId.systemDefault()).toInstant()))
                 .setExpiration(data)
                 .signWith( SignatureAlgorithm.HS512, chaveAssinatura )
                 .compact();
     }
 
+    /**
+     * Gera o token com o id e os perfis do usuário nas claims, permitindo montar o principal sem consultar o banco.
+     * O iat permite rejeitar os tokens emitidos antes da exclusão do usuário (ver PrincipalCache).
+     */
+    public String gerarToken( UserDetails usuario ){
+        long expString = Long.valueOf(expiracao);
+        long agora = System.currentTimeMillis();
+        Date data = new Date(agora + expString * 60 * 1000);
+
+        List<String> perfis = usuario.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+
+        JwtBuilder builder = Jwts
+                .builder()
+                .setSubject(usuario.getUsername())
+                .claim(CLAIM_PERFIS, perfis)
+                .setIssuedAt(new Date(agora))
+                .setExpiration(data);
+        if (usuario instanceof UsuarioAutenticado) {
+            builder.claim(CLAIM_ID, ((UsuarioAutenticado) usuario).getId());
+        }
+        return builder
+                .signWith( SignatureAlgorithm.HS512, chaveAssinatura )
+                .compact();
+    }
+
+    /**
+     * Monta o principal a partir das claims, ou devolve vazio se o token foi emitido sem perfis.
+     */
+    public Optional<UsuarioAutenticado> obterUsuarioAutenticado(Claims claims) {
+        Object perfis = claims.get(CLAIM_PERFIS);
+        if (!(perfis instanceof Collection)) {
+            return Optional.empty();
+        }
+        String[] authorities = ((Collection<?>) perfis).stream()
+                .map(String::valueOf)
+                .toArray(String[]::new);
+        Number id = claims.get(CLAIM_ID, Number.class);
+        return Optional.of(new UsuarioAutenticado(
+                id == null ? null : id.longValue(),
+                claims.getSubject(),
+                "",
+                AuthorityUtils.createAuthorityList(authorities)));
+    }
+
     private Claims obterClaims(String token ) throws ExpiredJwtException {
         return Jwts
                 .parser()
@@ -43,21 +106,36 @@ public class JwtService {
                 .getBody();
     }
 
-    public boolean tokenValido( String token ){
-        try{
-            Claims claims = obterClaims(token);
-            Date dataExpiracao = claims.getExpiration();
-            LocalDateTime data =
-                    dataExpiracao.toInstant()
-                            .atZone(ZoneId.systemDefault()).toLocalDateTime();
-            return !LocalDateTime.now().isAfter(data);
-        }catch (Exception e){
-            return false;
+    /**
+     * Valida o token uma única vez e devolve as claims, ou vazio se o token for inválido ou estiver expirado.
+     * Tokens já validados são servidos pelo cache sem verificar a assinatura novamente.
+     */
+    public Optional<Claims> validarToken(String token) {
+        Claims claims = tokenCache.obter(token);
+        if (claims != null) {
+            return Optional.of(claims);
         }
+        try {
+            claims = obterClaims(token);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+        Date dataExpiracao = claims.getExpiration();
+        if (dataExpiracao == null || dataExpiracao.getTime() < System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        tokenCache.guardar(token, claims);
+        return Optional.of(claims);
+    }
+
+    public boolean tokenValido( String token ){
+        return validarToken(token).isPresent();
     }
 
     public String obterLoginUsuario(String token) throws ExpiredJwtException{
-        return (String) obterClaims(token).getSubject();
+        return validarToken(token)
+                .map(Claims::getSubject)
+                .orElseGet(() -> obterClaims(token).getSubject());
     }
 
 
@@ -0,0 +1,88 @@
+package com.app.tarefaApi.Security.Jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de tokens já validados, indexado pelo hash SHA-256 do token.
+ * Cada entrada expira junto com o próprio token (claim exp); acima de tamanho-maximo o Caffeine
+ * descarta as entradas menos usadas, sem varrer o mapa na requisição.
+ * Acertos, falhas, despejos e tamanho são publicados nas métricas cache.* com a tag cache=jwt-tokens.
+ */
+@Component
+public class JwtTokenCache {
+
+    private Cache<String, Claims> tokens;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.jwt.cache.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${security.jwt.cache.tamanho-maximo:10000}")
+    private int tamanhoMaximo;
+
+    @PostConstruct
+    public void inicializar() {
+        tokens = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String chave, Claims claims, long agora) {
+                        long restanteMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, restanteMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String chave, Claims claims, long agora, long duracaoAtual) {
+                        return expireAfterCreate(chave, claims, agora);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String chave, Claims claims, long agora, long duracaoAtual) {
+                        return duracaoAtual;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "jwt-tokens");
+    }
+
+    public Claims obter(String token) {
+        if (!habilitado) {
+            return null;
+        }
+        return tokens.getIfPresent(hash(token));
+    }
+
+    public void guardar(String token, Claims claims) {
+        if (!habilitado || claims.getExpiration() == null) {
+            return;
+        }
+        tokens.put(hash(token), claims);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.app.tarefaApi.Security.Jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Cache de curta duração dos principais carregados do banco pelo JwtAuthFilter,
+ * e lista de usuários excluídos com o instante da exclusão: tokens emitidos até esse instante são rejeitados
+ * enquanto ainda puderem estar válidos, e os emitidos depois (um novo cadastro com o mesmo email) passam.
+ * Os dois são caches do Caffeine com expiração após a escrita. O de principais é limitado a tamanho-maximo,
+ * e acima disso o Caffeine descarta os menos usados. O de revogações não tem limite de tamanho, porque
+ * descartar uma revogação voltaria a aceitar os tokens do usuário excluído. Cada revogação expira junto
+ * com o último token que ela pode atingir.
+ */
+@Component
+public class PrincipalCache {
+
+    private Cache<String, UserDetails> principais;
+    private Cache<String, Long> revogados;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${security.jwt.principal-cache.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${security.jwt.principal-cache.ttl-segundos:60}")
+    private long ttlSegundos;
+
+    @Value("${security.jwt.principal-cache.tamanho-maximo:10000}")
+    private int tamanhoMaximo;
+
+    @Value("${security.jwt.expiracao}")
+    private long expiracaoTokenMinutos;
+
+    @PostConstruct
+    public void inicializar() {
+        principais = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principais, "jwt-principais");
+        revogados = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(expiracaoTokenMinutos))
+                .build();
+    }
+
+    public UserDetails obter(String email) {
+        if (!habilitado) {
+            return null;
+        }
+        return principais.getIfPresent(email);
+    }
+
+    public void guardar(String email, UserDetails usuario) {
+        if (!habilitado) {
+            return;
+        }
+        principais.put(email, usuario);
+    }
+
+    /**
+     * Remove o principal do cache e rejeita os tokens emitidos até agora para o email, até que expirem.
+     */
+    public void invalidar(String email) {
+        principais.invalidate(email);
+        revogados.put(email, System.currentTimeMillis());
+    }
+
+    /**
+     * Indica se o token emitido em emitidoEm foi revogado. O iat do JWT tem precisão de segundos, então um
+     * token do mesmo segundo da revogação é rejeitado; tokens sem iat (anteriores a ele) também.
+     */
+    public boolean revogado(String email, Date emitidoEm) {
+        Long revogadoEm = revogados.getIfPresent(email);
+        if (revogadoEm == null) {
+            return false;
+        }
+        return emitidoEm == null || emitidoEm.getTime() <= revogadoEm;
+    }
+}
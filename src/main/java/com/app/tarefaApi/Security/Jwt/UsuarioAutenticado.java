@@ -0,0 +1,23 @@
+package com.app.tarefaApi.Security.Jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Principal autenticado que carrega também o id do usuário, para que possa ser
+ * reconstruído apenas a partir das claims do token.
+ */
+public class UsuarioAutenticado extends User {
+    private final Long id;
+
+    public UsuarioAutenticado(Long id, String email, String senha, Collection<? extends GrantedAuthority> authorities) {
+        super(email, senha, authorities);
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
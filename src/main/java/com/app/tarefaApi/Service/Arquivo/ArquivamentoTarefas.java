@@ -0,0 +1,133 @@
+package com.app.tarefaApi.Service.Arquivo;
+
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Service.Resumo.VersaoListagemTarefas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Move as tarefas CONCLUIDA criadas há mais de idade-dias da tabela tarefa para tarefa_arquivo, para que
+ * a tabela principal e seus índices fiquem com as tarefas em uso. Cada lote é um comando em transação
+ * própria, e entre um lote e outro o job espera pausa-ms ou o tempo que o lote levou, o que for maior,
+ * ocupando o banco no máximo metade do tempo. Uma execução para em maximo-lotes; o restante fica para a próxima.
+ * Consultas por id continuam encontrando as tarefas arquivadas, e alterações as devolvem à tabela principal
+ * (ver TarefaServiceImpl).
+ * O @Scheduled só dispara a execução numa thread própria: as pausas entre lotes não podem ocupar a thread
+ * única do agendador do Spring, que também roda a verificação de envios do EventosTarefaHub e as reconciliações.
+ */
+@Component
+public class ArquivamentoTarefas {
+    private static final Logger logger = LoggerFactory.getLogger(ArquivamentoTarefas.class);
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private VersaoListagemTarefas versaoListagemTarefas;
+
+    @Value("${tarefa.arquivamento.habilitado:true}")
+    private boolean habilitado;
+
+    @Value("${tarefa.arquivamento.idade-dias:90}")
+    private int idadeDias;
+
+    @Value("${tarefa.arquivamento.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    @Value("${tarefa.arquivamento.pausa-ms:200}")
+    private long pausaMs;
+
+    @Value("${tarefa.arquivamento.maximo-lotes:200}")
+    private int maximoLotes;
+
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+    private ExecutorService executor;
+    private Counter arquivadas;
+    private Timer tempoLote;
+
+    @PostConstruct
+    void inicializar() {
+        arquivadas = Counter.builder("tarefa.arquivamento.tarefas")
+                .description("Tarefas concluídas movidas para o arquivo")
+                .register(meterRegistry);
+        tempoLote = Timer.builder("tarefa.arquivamento.lote")
+                .description("Tempo de arquivamento de um lote de tarefas")
+                .register(meterRegistry);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "arquivamento-tarefas");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Interrompe a pausa entre lotes; o lote em andamento termina na própria transação.
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${tarefa.arquivamento.cron:0 15 * * * *}")
+    public void agendado() {
+        // Uma execução que ainda não terminou não ganha outra na fila.
+        if (habilitado && emExecucao.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    arquivar();
+                } finally {
+                    emExecucao.set(false);
+                }
+            });
+        }
+    }
+
+    // Devolve quantas tarefas foram arquivadas nesta execução.
+    public long arquivar() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(idadeDias);
+        long total = 0;
+        try {
+            for (int lote = 0; lote < maximoLotes; lote++) {
+                long inicio = System.nanoTime();
+                int movidas = tarefaRepository.arquivarConcluidas(limite, tamanhoLote);
+                long duracao = System.nanoTime() - inicio;
+                tempoLote.record(duracao, TimeUnit.NANOSECONDS);
+                arquivadas.increment(movidas);
+                if (movidas > 0) {
+                    // As arquivadas saem de GET /api/tarefas sem evento de alteração.
+                    versaoListagemTarefas.incrementar();
+                }
+                total += movidas;
+                if (movidas < tamanhoLote) {
+                    break;
+                }
+                Thread.sleep(Math.max(pausaMs, TimeUnit.NANOSECONDS.toMillis(duracao)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao arquivar tarefas concluídas: {}", e.getMessage());
+        }
+        if (total > 0) {
+            logger.info("{} tarefas concluídas criadas antes de {} movidas para o arquivo.", total, limite);
+        }
+        return total;
+    }
+}
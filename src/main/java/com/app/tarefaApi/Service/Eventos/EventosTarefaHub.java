@@ -0,0 +1,255 @@
+package com.app.tarefaApi.Service.Eventos;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Distribui os eventos de tarefa para os assinantes de /api/tarefas/eventos.
+ * Os eventos chegam depois do commit, ganham um id sequencial e ficam num buffer circular
+ * para retomada via Last-Event-ID. Cada assinante tem uma fila limitada; quem não acompanha
+ * é desconectado e pode retomar a partir do último id recebido.
+ * O id enviado leva o instante de início do processo ("época-sequência"): a sequência recomeça a cada
+ * execução, e um Last-Event-ID de outra execução recebe "reinicio" em vez de eventos que não são os seus.
+ * Cada assinante é escrito por uma thread de envio própria enquanto tiver eventos na fila; um cliente que
+ * não lê só prende a sua, e é desconectado se um envio passar de timeout-envio-ms.
+ */
+@Component
+public class EventosTarefaHub {
+    private static final Logger logger = LoggerFactory.getLogger(EventosTarefaHub.class);
+    // Marcador na fila do assinante: eventos perdidos já saíram do buffer e o cliente precisa recarregar as tarefas.
+    private static final EventoTarefaDTO REINICIO = new EventoTarefaDTO();
+
+    private final Deque<EventoTarefaDTO> recentes = new ArrayDeque<>();
+    private final Set<Assinante> assinantes = new CopyOnWriteArraySet<>();
+    private final String epoca = Long.toString(System.currentTimeMillis(), 36);
+    private ThreadPoolExecutor envio;
+    private long ultimoId;
+
+    @Value("${tarefa.eventos.buffer-recentes:1000}")
+    private int tamanhoBufferRecentes;
+
+    @Value("${tarefa.eventos.buffer-assinante:256}")
+    private int tamanhoBufferAssinante;
+
+    @Value("${tarefa.eventos.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${tarefa.eventos.threads-envio:32}")
+    private int maximoThreadsEnvio;
+
+    @Value("${tarefa.eventos.timeout-envio-ms:5000}")
+    private long timeoutEnvioMs;
+
+    @PostConstruct
+    public void inicializar() {
+        envio = new ThreadPoolExecutor(0, maximoThreadsEnvio, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "eventos-tarefa");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter assinar(Long idUsuario, Status status, String ultimoIdRecebido) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(emitter, idUsuario, status, tamanhoBufferAssinante);
+        emitter.onCompletion(() -> encerrado(assinante));
+        emitter.onTimeout(() -> encerrado(assinante));
+        emitter.onError(erro -> encerrado(assinante));
+
+        Long ultimaSequencia = sequenciaDoId(ultimoIdRecebido);
+        synchronized (recentes) {
+            if (ultimoIdRecebido != null && ultimaSequencia == null) {
+                // Id de outra execução (ou inválido): os eventos perdidos não estão aqui.
+                assinante.fila.offer(REINICIO);
+            } else if (ultimaSequencia != null) {
+                EventoTarefaDTO maisAntigo = recentes.peekFirst();
+                if (maisAntigo != null && maisAntigo.getId() > ultimaSequencia + 1) {
+                    assinante.fila.offer(REINICIO);
+                }
+                for (EventoTarefaDTO evento : recentes) {
+                    if (evento.getId() > ultimaSequencia && assinante.aceita(evento)
+                            && !assinante.fila.offer(evento)) {
+                        // Atraso maior que a fila do assinante: mais barato recarregar do que reenviar tudo.
+                        assinante.fila.clear();
+                        assinante.fila.offer(REINICIO);
+                        break;
+                    }
+                }
+            }
+            assinantes.add(assinante);
+        }
+        agendarEnvio(assinante);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publicar(EventoTarefaDTO evento) {
+        synchronized (recentes) {
+            evento.setId(++ultimoId);
+            recentes.addLast(evento);
+            while (recentes.size() > tamanhoBufferRecentes) {
+                recentes.removeFirst();
+            }
+            for (Assinante assinante : assinantes) {
+                if (!assinante.aceita(evento)) {
+                    continue;
+                }
+                if (!assinante.fila.offer(evento)) {
+                    logger.warn("Assinante de eventos lento desconectado (fila cheia).");
+                    desconectar(assinante);
+                    continue;
+                }
+                agendarEnvio(assinante);
+            }
+        }
+    }
+
+    public int getQuantidadeAssinantes() {
+        return assinantes.size();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        assinantes.forEach(this::desconectar);
+        envio.shutdown();
+    }
+
+    // Desconecta quem está há mais de timeout-envio-ms num único envio e reagenda quem ficou sem thread de envio.
+    @Scheduled(fixedDelayString = "${tarefa.eventos.verificacao-ms:1000}")
+    public void verificarEnvios() {
+        long agora = System.nanoTime();
+        for (Assinante assinante : assinantes) {
+            long envioDesde = assinante.envioDesde;
+            if (envioDesde != 0 && agora - envioDesde > TimeUnit.MILLISECONDS.toNanos(timeoutEnvioMs)) {
+                logger.warn("Assinante de eventos desconectado (envio parado há mais de {} ms).", timeoutEnvioMs);
+                desconectar(assinante);
+            } else if (!assinante.fila.isEmpty()) {
+                agendarEnvio(assinante);
+            }
+        }
+    }
+
+    // Null se o Last-Event-ID não for desta execução.
+    private Long sequenciaDoId(String id) {
+        String prefixo = epoca + "-";
+        if (id == null || !id.startsWith(prefixo)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id.substring(prefixo.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Não chama o emitter aqui: seus métodos são sincronizados e esperariam um envio bloqueado.
+    // A thread de envio do assinante o encerra ao terminar o envio em andamento.
+    private void desconectar(Assinante assinante) {
+        assinantes.remove(assinante);
+        assinante.desconectado = true;
+        assinante.fila.clear();
+        agendarEnvio(assinante);
+    }
+
+    // O emitter já foi encerrado pelo container (conclusão, timeout ou erro).
+    private void encerrado(Assinante assinante) {
+        assinantes.remove(assinante);
+        assinante.desconectado = true;
+        assinante.encerrado.set(true);
+    }
+
+    private void agendarEnvio(Assinante assinante) {
+        if (assinante.agendado.compareAndSet(false, true)) {
+            try {
+                envio.execute(() -> enviar(assinante));
+            } catch (RejectedExecutionException e) {
+                // Todas as threads de envio ocupadas: verificarEnvios tenta de novo.
+                assinante.agendado.set(false);
+            }
+        }
+    }
+
+    // Escreve a fila do assinante fora da thread que publicou o evento (o commit não espera a rede).
+    private void enviar(Assinante assinante) {
+        try {
+            EventoTarefaDTO evento;
+            while (!assinante.desconectado && (evento = assinante.fila.poll()) != null) {
+                assinante.envioDesde = System.nanoTime();
+                assinante.emitter.send(evento == REINICIO
+                        ? SseEmitter.event().name("reinicio").data("")
+                        : criarEvento(evento));
+                assinante.envioDesde = 0;
+            }
+            if (assinante.desconectado && assinante.encerrado.compareAndSet(false, true)) {
+                assinante.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            assinantes.remove(assinante);
+            assinante.desconectado = true;
+            if (assinante.encerrado.compareAndSet(false, true)) {
+                assinante.emitter.completeWithError(e);
+            }
+            return;
+        } finally {
+            assinante.envioDesde = 0;
+            assinante.agendado.set(false);
+        }
+        boolean pendente = assinante.desconectado ? !assinante.encerrado.get() : !assinante.fila.isEmpty();
+        if (pendente) {
+            agendarEnvio(assinante);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder criarEvento(EventoTarefaDTO evento) {
+        return SseEmitter.event()
+                .id(epoca + "-" + evento.getId())
+                .name(evento.getTipo().name())
+                .data(evento);
+    }
+
+    private static final class Assinante {
+        private final SseEmitter emitter;
+        private final Long idUsuario;
+        private final Status status;
+        private final BlockingQueue<EventoTarefaDTO> fila;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private final AtomicBoolean encerrado = new AtomicBoolean();
+        private volatile boolean desconectado;
+        private volatile long envioDesde;
+
+        private Assinante(SseEmitter emitter, Long idUsuario, Status status, int tamanhoFila) {
+            this.emitter = emitter;
+            this.idUsuario = idUsuario;
+            this.status = status;
+            this.fila = new ArrayBlockingQueue<>(tamanhoFila);
+        }
+
+        // Pelo status, também a tarefa que deixou o status assinado: o cliente precisa tirá-la da sua lista.
+        private boolean aceita(EventoTarefaDTO evento) {
+            return (idUsuario == null || idUsuario.equals(evento.getIdUsuario()))
+                    && (status == null || status == evento.getStatus() || status == evento.getStatusAnterior());
+        }
+    }
+}
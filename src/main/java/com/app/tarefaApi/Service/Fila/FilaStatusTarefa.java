@@ -0,0 +1,291 @@
+package com.app.tarefaApi.Service.Fila;
+
+import com.app.tarefaApi.Domain.Enums.SituacaoAtualizacaoStatus;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Exception.ServiceUnavailableException;
+import com.app.tarefaApi.Rest.DTO.AtualizacaoStatusDTO;
+import com.app.tarefaApi.Service.TarefaService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Fila write-behind de PATCH /api/tarefas/{id}/status. Guarda em memória uma atualização por tarefa e
+ * solicitante (a última recebida vence) e grava em UPDATEs em lote a cada intervalo-ms ou quando acumula tamanho-lote
+ * tarefas. A chave inclui o solicitante porque a permissão só é verificada na gravação: a atualização de
+ * quem não é o criador não pode substituir a do criador, e termina rejeitada. Cada atualização tem um id de acompanhamento consultável por retencao-ms.
+ * No encerramento gracioso a fila é descarregada depois que o servidor web para; uma queda do processo
+ * perde o que ainda não foi gravado.
+ */
+@Component
+public class FilaStatusTarefa implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(FilaStatusTarefa.class);
+    private static final int TENTATIVAS_ENCERRAMENTO = 3;
+
+    private final Map<Chave, AtualizacaoStatusDTO> pendentes = new ConcurrentHashMap<>();
+    // Falhas por id de atualização, enquanto ela volta para a fila (ver gravar).
+    private final Map<String, Integer> tentativas = new ConcurrentHashMap<>();
+    private final AtomicBoolean descargaAgendada = new AtomicBoolean();
+    private volatile boolean rodando;
+    private ScheduledExecutorService agendador;
+    private Cache<String, AtualizacaoStatusDTO> atualizacoes;
+    private Counter substituidas;
+    private Timer tempoDescarga;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${tarefa.status-assincrono.intervalo-ms:200}")
+    private long intervaloMs;
+
+    @Value("${tarefa.status-assincrono.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    @Value("${tarefa.status-assincrono.capacidade:100000}")
+    private int capacidade;
+
+    @Value("${tarefa.status-assincrono.retencao-ms:600000}")
+    private long retencaoMs;
+
+    @Value("${tarefa.status-assincrono.maximo-tentativas:5}")
+    private int maximoTentativas;
+
+    @PostConstruct
+    void inicializar() {
+        atualizacoes = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(retencaoMs))
+                .maximumSize(capacidade * 2L)
+                .build();
+        Gauge.builder("tarefa.status.fila.pendentes", pendentes, Map::size)
+                .description("Tarefas com atualização de status aguardando gravação")
+                .register(meterRegistry);
+        substituidas = Counter.builder("tarefa.status.fila.substituidas")
+                .description("Atualizações descartadas por outra mais recente da mesma tarefa e solicitante")
+                .register(meterRegistry);
+        tempoDescarga = Timer.builder("tarefa.status.fila.descarga")
+                .description("Tempo de gravação de um lote de atualizações de status")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public AtualizacaoStatusDTO enfileirar(Long idTarefa, Status status) {
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status obrigatório.");
+        }
+        if (!rodando) {
+            throw new ServiceUnavailableException("Aplicação encerrando. Tente novamente em instantes.", 1);
+        }
+        String emailSolicitante = SecurityContextHolder.getContext().getAuthentication().getName();
+        Chave chave = new Chave(idTarefa, emailSolicitante);
+        if (pendentes.size() >= capacidade && !pendentes.containsKey(chave)) {
+            throw new ServiceUnavailableException("Fila de atualizações cheia. Tente novamente em instantes.", 1);
+        }
+        AtualizacaoStatusDTO atualizacao = new AtualizacaoStatusDTO(UUID.randomUUID().toString(), idTarefa, status,
+                SituacaoAtualizacaoStatus.PENDENTE, LocalDateTime.now(), null, emailSolicitante);
+        atualizacoes.put(atualizacao.getId(), atualizacao);
+        AtualizacaoStatusDTO anterior = pendentes.put(chave, atualizacao);
+        if (anterior != null) {
+            registrar(anterior, SituacaoAtualizacaoStatus.SUBSTITUIDA);
+            substituidas.increment();
+        }
+        if (pendentes.size() >= tamanhoLote && descargaAgendada.compareAndSet(false, true)) {
+            agendador.execute(() -> {
+                descargaAgendada.set(false);
+                descarregar();
+            });
+        }
+        return atualizacao;
+    }
+
+    public Optional<AtualizacaoStatusDTO> consultar(String id) {
+        String emailSolicitante = SecurityContextHolder.getContext().getAuthentication().getName();
+        return Optional.ofNullable(atualizacoes.getIfPresent(id))
+                .filter(atualizacao -> atualizacao.getEmailSolicitante().equals(emailSolicitante));
+    }
+
+    // Grava o que estava na fila no início da chamada; o que chegar durante a gravação fica para a próxima.
+    synchronized void descarregar() {
+        List<Chave> chaves = new ArrayList<>(pendentes.keySet());
+        for (int inicio = 0; inicio < chaves.size(); inicio += tamanhoLote) {
+            List<AtualizacaoStatusDTO> lote = new ArrayList<>();
+            for (Chave chave : chaves.subList(inicio, Math.min(inicio + tamanhoLote, chaves.size()))) {
+                AtualizacaoStatusDTO atualizacao = pendentes.remove(chave);
+                if (atualizacao != null) {
+                    lote.add(atualizacao);
+                }
+            }
+            if (!lote.isEmpty()) {
+                gravar(lote);
+            }
+        }
+    }
+
+    // Um UPDATE por (solicitante, status), todos na mesma transação. Só o criador altera a tarefa,
+    // então as que não voltam do RETURNING são rejeitadas (inexistentes ou de outro usuário).
+    // Falhas do banco indisponível devolvem o lote inteiro à fila. As demais dividem o lote ao meio até
+    // isolar a atualização que falha; ela volta à fila e, depois de maximo-tentativas, é rejeitada.
+    private void gravar(List<AtualizacaoStatusDTO> lote) {
+        Map<String, Map<Status, List<Long>>> grupos = lote.stream().collect(Collectors.groupingBy(
+                AtualizacaoStatusDTO::getEmailSolicitante,
+                Collectors.groupingBy(AtualizacaoStatusDTO::getStatus,
+                        Collectors.mapping(AtualizacaoStatusDTO::getIdTarefa, Collectors.toList()))));
+        Set<Chave> afetados = new HashSet<>();
+        try {
+            tempoDescarga.record(() -> new TransactionTemplate(transactionManager).executeWithoutResult(transacao ->
+                    grupos.forEach((email, porStatus) -> porStatus.forEach((status, ids) ->
+                            tarefaService.atualizarStatusEmLote(ids, status, email).getAfetados()
+                                    .forEach(id -> afetados.add(new Chave(id, email)))))));
+        } catch (TransientDataAccessException | RecoverableDataAccessException | CannotCreateTransactionException e) {
+            logger.error("Banco indisponível ao gravar {} atualizações de status; nova tentativa na próxima descarga: {}",
+                    lote.size(), e.getMessage());
+            lote.forEach(this::devolver);
+            return;
+        } catch (RuntimeException e) {
+            if (lote.size() > 1) {
+                gravar(lote.subList(0, lote.size() / 2));
+                gravar(lote.subList(lote.size() / 2, lote.size()));
+                return;
+            }
+            AtualizacaoStatusDTO atualizacao = lote.get(0);
+            int tentativa = tentativas.merge(atualizacao.getId(), 1, Integer::sum);
+            if (tentativa >= maximoTentativas) {
+                logger.error("Atualização de status da tarefa {} rejeitada após {} tentativas.", atualizacao.getIdTarefa(), tentativa, e);
+                registrar(atualizacao, SituacaoAtualizacaoStatus.REJEITADA);
+            } else {
+                logger.warn("Falha ao gravar a atualização de status da tarefa {} (tentativa {}): {}",
+                        atualizacao.getIdTarefa(), tentativa, e.getMessage());
+                devolver(atualizacao);
+            }
+            return;
+        }
+        for (AtualizacaoStatusDTO atualizacao : lote) {
+            registrar(atualizacao, afetados.contains(Chave.de(atualizacao))
+                    ? SituacaoAtualizacaoStatus.APLICADA : SituacaoAtualizacaoStatus.REJEITADA);
+        }
+    }
+
+    // Volta para a fila sem sobrescrever uma atualização mais nova recebida nesse meio tempo.
+    private void devolver(AtualizacaoStatusDTO atualizacao) {
+        if (pendentes.putIfAbsent(Chave.de(atualizacao), atualizacao) != null) {
+            registrar(atualizacao, SituacaoAtualizacaoStatus.SUBSTITUIDA);
+        }
+    }
+
+    private void registrar(AtualizacaoStatusDTO atualizacao, SituacaoAtualizacaoStatus situacao) {
+        tentativas.remove(atualizacao.getId());
+        atualizacoes.put(atualizacao.getId(), new AtualizacaoStatusDTO(atualizacao.getId(), atualizacao.getIdTarefa(),
+                atualizacao.getStatus(), situacao, atualizacao.getDataRecebimento(), LocalDateTime.now(),
+                atualizacao.getEmailSolicitante()));
+    }
+
+    @Override
+    public void start() {
+        agendador = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fila-status-tarefa");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::descarregar, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+        rodando = true;
+    }
+
+    @Override
+    public void stop() {
+        rodando = false;
+        agendador.shutdown();
+        try {
+            agendador.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int tentativa = 0; tentativa < TENTATIVAS_ENCERRAMENTO && !pendentes.isEmpty(); tentativa++) {
+            descarregar();
+        }
+        if (!pendentes.isEmpty()) {
+            logger.error("{} atualizações de status não foram gravadas no encerramento.", pendentes.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return rodando;
+    }
+
+    // Para depois do servidor web (fase Integer.MAX_VALUE - 1), quando nenhuma requisição nova pode enfileirar.
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 2;
+    }
+
+    private static final class Chave {
+        private final Long idTarefa;
+        private final String emailSolicitante;
+
+        private Chave(Long idTarefa, String emailSolicitante) {
+            this.idTarefa = idTarefa;
+            this.emailSolicitante = emailSolicitante;
+        }
+
+        private static Chave de(AtualizacaoStatusDTO atualizacao) {
+            return new Chave(atualizacao.getIdTarefa(), atualizacao.getEmailSolicitante());
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            if (this == outro) {
+                return true;
+            }
+            if (!(outro instanceof Chave)) {
+                return false;
+            }
+            Chave chave = (Chave) outro;
+            return idTarefa.equals(chave.idTarefa) && emailSolicitante.equals(chave.emailSolicitante);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(idTarefa, emailSolicitante);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.app.tarefaApi.Service.Historico;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Enums.TipoEventoTarefa;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.HistoricoTarefaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Histórico de alterações de tarefas (tabela historico_tarefa, particionada por mês).
+ * Recebe os EventoTarefaDTO assim que são publicados, acumula os da transação corrente e grava todos
+ * num único lote JDBC antes do commit: a alteração e o histórico são confirmados ou desfeitos juntos.
+ */
+@Component
+public class HistoricoTarefa {
+    private static final Logger logger = LoggerFactory.getLogger(HistoricoTarefa.class);
+    private static final int TAMANHO_FETCH_EXPORTACAO = 1000;
+    private static final String COLUNAS =
+            "id, id_tarefa, tipo, status_anterior, status_novo, email_autor, data_alteracao";
+    private static final RowMapper<HistoricoTarefaDTO> MAPEADOR = (rs, linha) -> mapear(rs);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tarefa.historico.meses-a-frente:3}")
+    private int mesesAFrente;
+
+    @EventListener
+    public void registrar(EventoTarefaDTO evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gravar(Collections.singletonList(evento));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<EventoTarefaDTO> pendentes = (List<EventoTarefaDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            List<EventoTarefaDTO> daTransacao = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, daTransacao);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    gravar(daTransacao);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(HistoricoTarefa.this);
+                }
+            });
+            pendentes = daTransacao;
+        }
+        pendentes.add(evento);
+    }
+
+    private void gravar(List<EventoTarefaDTO> eventos) {
+        if (eventos.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into historico_tarefa " +
+                        "(id_tarefa, tipo, status_anterior, status_novo, email_autor, data_alteracao) values (?, ?, ?, ?, ?, ?)",
+                eventos, eventos.size(), (PreparedStatement ps, EventoTarefaDTO evento) -> {
+                    // Na exclusão o evento repete o último status; no histórico a tarefa deixa de ter status.
+                    Status statusNovo = evento.getTipo() == TipoEventoTarefa.EXCLUIDA ? null : evento.getStatus();
+                    ps.setLong(1, evento.getIdTarefa());
+                    ps.setString(2, evento.getTipo().name());
+                    ps.setString(3, evento.getStatusAnterior() != null ? evento.getStatusAnterior().name() : null);
+                    ps.setString(4, statusNovo != null ? statusNovo.name() : null);
+                    ps.setString(5, evento.getEmailAutor());
+                    ps.setTimestamp(6, Timestamp.valueOf(evento.getDataEvento()));
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public List<HistoricoTarefaDTO> listarPorTarefa(Long idTarefa) {
+        return jdbcTemplate.query("select " + COLUNAS + " from historico_tarefa where id_tarefa = ? " +
+                "order by data_alteracao, id", MAPEADOR, idTarefa);
+    }
+
+    // Com autocommit desligado (transação) e fetch size, o driver do PostgreSQL lê por cursor no servidor,
+    // TAMANHO_FETCH_EXPORTACAO linhas por vez, em vez de trazer o resultado inteiro para a memória.
+    @Transactional(readOnly = true)
+    public void exportarNdjson(LocalDateTime dataInicio, LocalDateTime dataFim, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(HistoricoTarefaDTO.class);
+        try {
+            jdbcTemplate.query(conexao -> {
+                PreparedStatement ps = conexao.prepareStatement("select " + COLUNAS + " from historico_tarefa " +
+                        "where data_alteracao >= ? and data_alteracao < ? order by data_alteracao, id");
+                ps.setFetchSize(TAMANHO_FETCH_EXPORTACAO);
+                ps.setTimestamp(1, Timestamp.valueOf(dataInicio));
+                ps.setTimestamp(2, Timestamp.valueOf(dataFim));
+                return ps;
+            }, rs -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(mapear(rs)));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        outputStream.flush();
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${tarefa.historico.manutencao-cron:0 0 3 * * *}")
+    public void garantirParticoes() {
+        jdbcTemplate.queryForList("select garantir_particoes_historico(?)::text", String.class, mesesAFrente);
+        logger.debug("Partições do histórico garantidas para os próximos {} meses.", mesesAFrente);
+    }
+
+    private static HistoricoTarefaDTO mapear(ResultSet rs) throws SQLException {
+        String statusAnterior = rs.getString("status_anterior");
+        String statusNovo = rs.getString("status_novo");
+        return new HistoricoTarefaDTO(
+                rs.getLong("id"),
+                rs.getLong("id_tarefa"),
+                TipoEventoTarefa.valueOf(rs.getString("tipo")),
+                statusAnterior != null ? Status.valueOf(statusAnterior) : null,
+                statusNovo != null ? Status.valueOf(statusNovo) : null,
+                rs.getString("email_autor"),
+                rs.getTimestamp("data_alteracao").toLocalDateTime());
+    }
+}
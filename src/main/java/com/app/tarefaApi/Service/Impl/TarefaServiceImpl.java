@@ -1,33 +1,139 @@
 package com.app.tarefaApi.Service.Impl;
 
+import com.app.tarefaApi.Config.CacheConfig;
 import com.app.tarefaApi.Domain.Entity.Tarefa;
 import com.app.tarefaApi.Domain.Entity.Usuario;
+import com.app.tarefaApi.Domain.Enums.FormatoTransferencia;
+import com.app.tarefaApi.Domain.Enums.OrdenacaoTarefa;
 import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Enums.TipoEventoTarefa;
 import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Domain.Repository.TarefaSpecifications;
 import com.app.tarefaApi.Domain.Repository.UsuarioRepository;
 import com.app.tarefaApi.Exception.TaskNotFoundException;
 import com.app.tarefaApi.Exception.UserNotFoundException;
+import com.app.tarefaApi.Rest.DTO.ErroImportacaoDTO;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.FiltroTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.PaginaTarefasDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoImportacaoDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoOperacaoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResumoTarefasDTO;
 import com.app.tarefaApi.Rest.DTO.TarefaDTO;
+import com.app.tarefaApi.Service.Resumo.ContadoresTarefa;
+import com.app.tarefaApi.Service.Resumo.VersaoListagemTarefas;
 import com.app.tarefaApi.Service.TarefaService;
+import com.app.tarefaApi.Service.Transferencia.CsvTarefas;
+import com.app.tarefaApi.Service.Transferencia.LeitorImportacao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "servico", histogram = true)
 public class TarefaServiceImpl implements TarefaService {
+    private static final Logger logger = LoggerFactory.getLogger(TarefaServiceImpl.class);
+    private static final int TAMANHO_BLOCO_IN = 1000;
+    private static final int MAXIMO_TERMOS_BUSCA = 10;
+    private static final int TAMANHO_FETCH_EXPORTACAO = 500;
+
     @Autowired
     private UsuarioRepository usuarioRepository;
 
     @Autowired
     private TarefaRepository tarefaRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ContadoresTarefa contadoresTarefa;
+
+    @Autowired
+    private VersaoListagemTarefas versaoListagemTarefas;
+
+    @Value("${tarefa.paginacao.tamanho-padrao:50}")
+    private int tamanhoPadraoPagina;
+
+    @Value("${tarefa.paginacao.tamanho-maximo:500}")
+    private int tamanhoMaximoPagina;
+
+    @Value("${tarefa.lote.tamanho-chunk:500}")
+    private int tamanhoChunkLote;
+
+    @Value("${tarefa.lote.tamanho-maximo:50000}")
+    private int tamanhoMaximoLote;
+
+    @Value("${tarefa.importacao.maximo-erros:1000}")
+    private int maximoErrosImportacao;
+
     @Override
+    @Transactional
     public Tarefa criarTarefa(TarefaDTO tarefaDTO) throws UserNotFoundException {
         // Obtem o email do usuário autenticado
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -49,7 +155,9 @@ public class TarefaServiceImpl implements TarefaService {
             tarefa.setCriador(usuarioCriador.getNomeUsuario());//adiciona o nome do criador para verificarmos quem é o criador da tarefa
             tarefa.setEmailCriador(emailAutenticado); //adiciona o email do criador para verificarmos quem é o criador da tarefa
 
-            return tarefaRepository.save(tarefa);
+            Tarefa tarefaSalva = tarefaRepository.save(tarefa);
+            publicarEvento(TipoEventoTarefa.CRIADA, tarefaSalva, null, emailAutenticado);
+            return tarefaSalva;
 
         }else{
             throw new UserNotFoundException("Usuario Inexistente.");
@@ -57,8 +165,90 @@ public class TarefaServiceImpl implements TarefaService {
     }
 
     @Override
+    public List<ResultadoLoteDTO> criarTarefasEmLote(List<TarefaDTO> tarefasDTO) throws UserNotFoundException {
+        if (tarefasDTO.size() > tamanhoMaximoLote) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O lote excede o limite de " + tamanhoMaximoLote + " tarefas.");
+        }
+
+        // Obtem o criador uma única vez para todo o lote
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String emailAutenticado = authentication.getName();
+        Usuario usuarioCriador = usuarioRepository.findUserByEmail(emailAutenticado);
+        if (usuarioCriador == null) {
+            throw new UserNotFoundException("Usuario Inexistente.");
+        }
+
+        // Busca todos os usuários responsáveis em uma única consulta (IN)
+        List<Long> idsUsuarios = tarefasDTO.stream()
+                .map(TarefaDTO::getIdUsuario)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Usuario> usuarios = usuarioRepository.findAllById(idsUsuarios).stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+
+        List<ResultadoLoteDTO> resultados = new ArrayList<>(tarefasDTO.size());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime dataCriacao = LocalDateTime.now();
+
+        // Cada chunk roda na sua própria transação; uma falha no banco afeta apenas o chunk em que ocorreu.
+        for (int inicio = 0; inicio < tarefasDTO.size(); inicio += tamanhoChunkLote) {
+            int fim = Math.min(inicio + tamanhoChunkLote, tarefasDTO.size());
+            List<ResultadoLoteDTO> resultadosChunk = new ArrayList<>(fim - inicio);
+            List<Tarefa> tarefasChunk = new ArrayList<>(fim - inicio);
+
+            for (int i = inicio; i < fim; i++) {
+                TarefaDTO tarefaDTO = tarefasDTO.get(i);
+                Usuario usuario = usuarios.get(tarefaDTO.getIdUsuario());
+                if (usuario == null) {
+                    resultados.add(new ResultadoLoteDTO(i, null, false, "Usuario Inexistente."));
+                    continue;
+                }
+                Tarefa tarefa = new Tarefa();
+                tarefa.setTitulo(tarefaDTO.getTitulo());
+                tarefa.setDescricao(tarefaDTO.getDescricao());
+                tarefa.setStatus(tarefaDTO.getStatus());
+                tarefa.setUsuario(usuario);
+                tarefa.setDataCriacao(dataCriacao);
+                tarefa.setCriador(usuarioCriador.getNomeUsuario());
+                tarefa.setEmailCriador(emailAutenticado);
+                tarefasChunk.add(tarefa);
+                resultadosChunk.add(new ResultadoLoteDTO(i, null, true, null));
+            }
+
+            if (tarefasChunk.isEmpty()) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Tarefa tarefa : tarefasChunk) {
+                        entityManager.persist(tarefa);
+                        publicarEvento(TipoEventoTarefa.CRIADA, tarefa, null, emailAutenticado);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                for (int i = 0; i < tarefasChunk.size(); i++) {
+                    resultadosChunk.get(i).setId(tarefasChunk.get(i).getId());
+                }
+            } catch (RuntimeException e) {
+                for (ResultadoLoteDTO resultado : resultadosChunk) {
+                    resultado.setSucesso(false);
+                    resultado.setErro("Erro ao gravar tarefa.");
+                }
+            }
+            resultados.addAll(resultadosChunk);
+        }
+
+        resultados.sort((a, b) -> Integer.compare(a.getIndice(), b.getIndice()));
+        return resultados;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public Optional<Tarefa> obterTarefaPorId(Long id) throws TaskNotFoundException {
-        Optional<Tarefa> tarefa = tarefaRepository.findById(id);
+        Optional<Tarefa> tarefa = tarefaRepository.findById(id).or(() -> buscarArquivada(id));
         if(tarefa.isPresent()){
             return tarefa;
         }
@@ -66,12 +256,292 @@ public class TarefaServiceImpl implements TarefaService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Tarefa> obterTodasTarefas() {
         return tarefaRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PaginaTarefasDTO listarPaginaTarefas(String cursor, Integer tamanho, OrdenacaoTarefa ordenacao) {
+        int tamanhoPagina = tamanho == null ? tamanhoPadraoPagina : Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+        // Busca um registro a mais para saber se existe próxima página sem precisar de um count.
+        PageRequest limite = PageRequest.of(0, tamanhoPagina + 1);
+
+        List<Tarefa> tarefas;
+        if (ordenacao == OrdenacaoTarefa.DATA_CRIACAO) {
+            if (cursor == null || cursor.isBlank()) {
+                tarefas = tarefaRepository.findAllByOrderByDataCriacaoAscIdAsc(limite);
+            } else {
+                Tarefa ultima = decodificarCursorDataCriacao(cursor);
+                tarefas = tarefaRepository.buscarPaginaAposDataCriacao(ultima.getDataCriacao(), ultima.getId(), limite);
+            }
+        } else {
+            if (cursor == null || cursor.isBlank()) {
+                tarefas = tarefaRepository.findAllByOrderByIdAsc(limite);
+            } else {
+                tarefas = tarefaRepository.buscarPaginaAposId(decodificarCursorId(cursor), limite);
+            }
+        }
+
+        String proximoCursor = null;
+        if (tarefas.size() > tamanhoPagina) {
+            tarefas = tarefas.subList(0, tamanhoPagina);
+            Tarefa ultima = tarefas.get(tamanhoPagina - 1);
+            proximoCursor = ordenacao == OrdenacaoTarefa.DATA_CRIACAO
+                    ? codificarCursor(ultima.getDataCriacao() + "|" + ultima.getId())
+                    : codificarCursor(String.valueOf(ultima.getId()));
+        }
+        return new PaginaTarefasDTO(tarefas, tarefas.size(), proximoCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaTarefasDTO filtrarTarefas(FiltroTarefaDTO filtro, String cursor, Integer tamanho) {
+        int tamanhoPagina = tamanho == null ? tamanhoPadraoPagina : Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+
+        Specification<Tarefa> especificacao = Specification
+                .where(TarefaSpecifications.comStatus(filtro.getStatus()))
+                .and(TarefaSpecifications.doUsuario(filtro.getIdUsuario()))
+                .and(TarefaSpecifications.doCriador(filtro.getEmailCriador()))
+                .and(TarefaSpecifications.criadaDesde(filtro.getDataInicio()))
+                .and(TarefaSpecifications.criadaAte(filtro.getDataFim()));
+        if (cursor != null && !cursor.isBlank()) {
+            Tarefa ultima = decodificarCursorDataCriacao(cursor);
+            especificacao = especificacao.and(TarefaSpecifications.aposCursor(ultima.getDataCriacao(), ultima.getId()));
+        }
+
+        // Consulta montada direto no EntityManager: o findAll(spec, pageable) faria um count a cada página.
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tarefa> query = cb.createQuery(Tarefa.class);
+        Root<Tarefa> root = query.from(Tarefa.class);
+        root.fetch("usuario", JoinType.LEFT);
+        Predicate predicado = especificacao.toPredicate(root, query, cb);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        query.orderBy(cb.asc(root.get("dataCriacao")), cb.asc(root.get("id")));
+        List<Tarefa> tarefas = entityManager.createQuery(query)
+                .setMaxResults(tamanhoPagina + 1)
+                .getResultList();
+
+        String proximoCursor = null;
+        if (tarefas.size() > tamanhoPagina) {
+            tarefas = tarefas.subList(0, tamanhoPagina);
+            Tarefa ultima = tarefas.get(tamanhoPagina - 1);
+            proximoCursor = codificarCursor(ultima.getDataCriacao() + "|" + ultima.getId());
+        }
+        return new PaginaTarefasDTO(tarefas, tarefas.size(), proximoCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaTarefasDTO buscarTarefas(String texto, String cursor, Integer tamanho) {
+        int tamanhoPagina = tamanho == null ? tamanhoPadraoPagina : Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+        String consulta = montarConsultaTextual(texto);
+
+        // A ordem é pelo ranking, então o cursor guarda o deslocamento da próxima página.
+        long deslocamento = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                deslocamento = Math.max(0, Long.parseLong(decodificarCursor(cursor)));
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido.");
+            }
+        }
+
+        List<Long> ids = tarefaRepository.buscarIdsPorTexto(consulta, tamanhoPagina + 1, deslocamento).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        String proximoCursor = null;
+        if (ids.size() > tamanhoPagina) {
+            ids = ids.subList(0, tamanhoPagina);
+            proximoCursor = codificarCursor(String.valueOf(deslocamento + tamanhoPagina));
+        }
+
+        Map<Long, Tarefa> tarefasPorId = tarefaRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Tarefa::getId, Function.identity()));
+        List<Tarefa> tarefas = ids.stream()
+                .map(tarefasPorId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PaginaTarefasDTO(tarefas, tarefas.size(), proximoCursor);
+    }
+
+    // Converte o texto digitado em tsquery: cada palavra vira um prefixo ("proj" encontra "projeto")
+    // e todas precisam aparecer. Acentos e caixa são tratados pela configuração pt_sem_acento do banco.
+    private String montarConsultaTextual(String texto) {
+        List<String> termos = texto == null ? List.of() : Arrays.stream(texto.split("[^\\p{L}\\p{N}]+"))
+                .filter(termo -> !termo.isEmpty())
+                .limit(MAXIMO_TERMOS_BUSCA)
+                .map(termo -> termo + ":*")
+                .collect(Collectors.toList());
+        if (termos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos uma palavra para a busca.");
+        }
+        return String.join(" & ", termos);
+    }
+
+    @Override
+    public void escreverTarefasNdjson(OutputStream outputStream) throws IOException {
+        exportarTarefas(FormatoTransferencia.NDJSON, outputStream);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportarTarefas(FormatoTransferencia formato, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(Tarefa.class);
+        Writer csv = formato == FormatoTransferencia.CSV ? new OutputStreamWriter(outputStream, StandardCharsets.UTF_8) : null;
+        if (csv != null) {
+            CsvTarefas.escreverCabecalho(csv);
+        }
+        long quantidade = 0;
+        // As tarefas ativas e depois as arquivadas, cada tabela lida por um cursor próprio.
+        List<Supplier<Stream<Tarefa>>> origens = List.of(tarefaRepository::streamTodasTarefas, this::streamTarefasArquivadas);
+        for (Supplier<Stream<Tarefa>> origem : origens) {
+            try (Stream<Tarefa> tarefas = origem.get()) {
+                for (Tarefa tarefa : (Iterable<Tarefa>) tarefas::iterator) {
+                    if (csv != null) {
+                        CsvTarefas.escreverLinha(csv, tarefa);
+                    } else {
+                        outputStream.write(writer.writeValueAsBytes(tarefa));
+                        outputStream.write('\n');
+                    }
+                    // Esvazia o contexto de persistência (tarefas e responsáveis) para o heap não crescer com a tabela.
+                    if (++quantidade % TAMANHO_FETCH_EXPORTACAO == 0) {
+                        entityManager.clear();
+                    }
+                }
+            }
+        }
+        if (csv != null) {
+            csv.flush();
+        }
+        outputStream.flush();
+    }
+
+    @Override
+    public ResultadoImportacaoDTO importarTarefas(FormatoTransferencia formato, InputStream inputStream) throws IOException, UserNotFoundException {
+        String emailAutenticado = SecurityContextHolder.getContext().getAuthentication().getName();
+        Usuario usuarioCriador = usuarioRepository.findUserByEmail(emailAutenticado);
+        if (usuarioCriador == null) {
+            throw new UserNotFoundException("Usuario Inexistente.");
+        }
+
+        LeitorImportacao leitor = new LeitorImportacao(formato, new InputStreamReader(inputStream, StandardCharsets.UTF_8), objectMapper);
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        // Só guarda ids de responsáveis já consultados, então a memória não depende do tamanho do arquivo.
+        Map<Long, Boolean> responsaveisExistentes = new HashMap<>();
+        List<LeitorImportacao.Registro> chunk = new ArrayList<>(tamanhoChunkLote);
+        LeitorImportacao.Registro registro;
+        while ((registro = leitor.proximo()) != null) {
+            if (registro.getErro() != null) {
+                rejeitarImportacao(resultado, registro.getLinha(), registro.getErro());
+                continue;
+            }
+            if (!responsaveisExistentes.computeIfAbsent(registro.getTarefa().getIdUsuario(), usuarioRepository::existsById)) {
+                rejeitarImportacao(resultado, registro.getLinha(), "Usuario Inexistente.");
+                continue;
+            }
+            chunk.add(registro);
+            if (chunk.size() == tamanhoChunkLote) {
+                gravarChunkImportacao(chunk, usuarioCriador, resultado);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            gravarChunkImportacao(chunk, usuarioCriador, resultado);
+        }
+        return resultado;
+    }
+
+    // Mesmo esquema do criarTarefasEmLote: uma transação por chunk, com o criador sendo o usuário autenticado.
+    private void gravarChunkImportacao(List<LeitorImportacao.Registro> chunk, Usuario usuarioCriador,
+                                       ResultadoImportacaoDTO resultado) {
+        LocalDateTime agora = LocalDateTime.now();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                for (LeitorImportacao.Registro registro : chunk) {
+                    TarefaDTO tarefaDTO = registro.getTarefa();
+                    Tarefa tarefa = new Tarefa();
+                    tarefa.setTitulo(tarefaDTO.getTitulo());
+                    tarefa.setDescricao(tarefaDTO.getDescricao());
+                    tarefa.setStatus(tarefaDTO.getStatus());
+                    tarefa.setUsuario(entityManager.getReference(Usuario.class, tarefaDTO.getIdUsuario()));
+                    tarefa.setDataCriacao(tarefaDTO.getDataCriacao() != null ? tarefaDTO.getDataCriacao() : agora);
+                    tarefa.setCriador(usuarioCriador.getNomeUsuario());
+                    tarefa.setEmailCriador(usuarioCriador.getEmail());
+                    entityManager.persist(tarefa);
+                    publicarEvento(TipoEventoTarefa.CRIADA, tarefa, null, usuarioCriador.getEmail());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            resultado.setImportadas(resultado.getImportadas() + chunk.size());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar {} tarefas importadas a partir da linha {}.", chunk.size(), chunk.get(0).getLinha(), e);
+            for (LeitorImportacao.Registro registro : chunk) {
+                rejeitarImportacao(resultado, registro.getLinha(), "Erro ao gravar tarefa.");
+            }
+        }
+    }
+
+    private void rejeitarImportacao(ResultadoImportacaoDTO resultado, long linha, String mensagem) {
+        resultado.setRejeitadas(resultado.getRejeitadas() + 1);
+        if (resultado.getErros().size() < maximoErrosImportacao) {
+            resultado.getErros().add(new ErroImportacaoDTO(linha, mensagem));
+        } else {
+            resultado.setErrosOmitidos(true);
+        }
+    }
+
+    private String codificarCursor(String valor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // O cursor por data de criação guarda "dataCriacao|id" do último registro da página.
+    private Tarefa decodificarCursorDataCriacao(String cursor) {
+        String[] partes = decodificarCursor(cursor).split("\\|", 2);
+        if (partes.length != 2) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido.");
+        }
+        try {
+            Tarefa ultima = new Tarefa();
+            ultima.setDataCriacao(LocalDateTime.parse(partes[0]));
+            ultima.setId(Long.valueOf(partes[1]));
+            return ultima;
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido.");
+        }
+    }
+
+    private String decodificarCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido.");
+        }
+    }
+
+    private Long decodificarCursorId(String cursor) {
+        try {
+            return Long.valueOf(decodificarCursor(cursor));
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido.");
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public Tarefa atualizaTarefa(Long id, TarefaDTO tarefaDTO) throws TaskNotFoundException, AccessDeniedException {
+        return atualizaTarefa(id, tarefaDTO, null);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
+    public Tarefa atualizaTarefa(Long id, TarefaDTO tarefaDTO, Set<Long> versoesAceitas) throws TaskNotFoundException, AccessDeniedException {
         // Obtem o email do usuário autenticado
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String emailAutenticado = authentication.getName();
@@ -79,31 +549,39 @@ public class TarefaServiceImpl implements TarefaService {
 
 
         // Obtem a tarefa pelo ID
-        Tarefa tarefaExistente = tarefaRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Tarefa Inexistente."));
+        Tarefa tarefaExistente = buscarParaAlteracao(id, emailAutenticado, "Só pode atualizar tarefas criadas por você.");
 
         // Verifica se o usuário autenticado é o criador da tarefa
         if (!tarefaExistente.getEmailCriador().equals(emailAutenticado)) {
             throw new AccessDeniedException("Só pode atualizar tarefas criadas por você.");
         }
 
+        // If-Match: recusa a atualização se a versão atual não estiver entre as informadas (null: sem If-Match)
+        if (versoesAceitas != null && !versoesAceitas.contains(tarefaExistente.getVersao())) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "A tarefa foi alterada por outra requisição.");
+        }
+
         // Atualiza os campos da tarefa com os dados do DTO
+        Status statusAnterior = tarefaExistente.getStatus();
         tarefaExistente.setTitulo(tarefaDTO.getTitulo());
         tarefaExistente.setDescricao(tarefaDTO.getDescricao());
         tarefaExistente.setStatus(tarefaDTO.getStatus());
 
-        return tarefaRepository.save(tarefaExistente);
+        Tarefa tarefaSalva = tarefaRepository.save(tarefaExistente);
+        publicarEvento(TipoEventoTarefa.ATUALIZADA, tarefaSalva, statusAnterior, emailAutenticado);
+        return tarefaSalva;
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     public void excluiTarefa(Long id) throws TaskNotFoundException {
         // Obtem o email do usuário autenticado
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String emailAutenticado = authentication.getName();
 
         // Obtem a tarefa pelo ID
-        Tarefa tarefaExistente = tarefaRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Tarefa Inexistente."));
+        Tarefa tarefaExistente = buscarParaAlteracao(id, emailAutenticado, "Só pode excluir tarefas criadas por você.");
 
         // Verifica se o usuário autenticado é o criador da tarefa
         if (!tarefaExistente.getEmailCriador().equals(emailAutenticado)) {
@@ -111,13 +589,186 @@ public class TarefaServiceImpl implements TarefaService {
         }
 
          tarefaRepository.deleteById(id);
+         publicarEvento(TipoEventoTarefa.EXCLUIDA, tarefaExistente, tarefaExistente.getStatus(), emailAutenticado);
+
+    }
+
+    @Override
+    @Transactional
+    public ResultadoOperacaoLoteDTO atualizarStatusEmLote(List<Long> ids, Status status) {
+        String emailAutenticado = SecurityContextHolder.getContext().getAuthentication().getName();
+        return atualizarStatusEmLote(ids, status, emailAutenticado);
+    }
+
+    // Também usado pela fila de status assíncrona, que descarrega fora da requisição (sem usuário autenticado).
+    @Override
+    @Transactional
+    public ResultadoOperacaoLoteDTO atualizarStatusEmLote(List<Long> ids, Status status, String emailCriador) {
+        if (status == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status obrigatório.");
+        }
+        return executarEmLote(ids, TipoEventoTarefa.ATUALIZADA, emailCriador, chunk -> {
+            tarefaRepository.restaurarArquivadas(chunk, emailCriador);
+            return tarefaRepository.atualizarStatusEmLote(chunk, status.name(), emailCriador);
+        });
+    }
 
+    @Override
+    @Transactional
+    public ResultadoOperacaoLoteDTO excluirEmLote(List<Long> ids) {
+        String emailAutenticado = SecurityContextHolder.getContext().getAuthentication().getName();
+        return executarEmLote(ids, TipoEventoTarefa.EXCLUIDA, emailAutenticado, chunk -> {
+            tarefaRepository.restaurarArquivadas(chunk, emailAutenticado);
+            return tarefaRepository.excluirEmLote(chunk, emailAutenticado);
+        });
+    }
 
+    private ResultadoOperacaoLoteDTO executarEmLote(List<Long> ids, TipoEventoTarefa tipoEvento, String emailAutor,
+                                                    Function<List<Long>, List<Object[]>> operacao) {
+        if (ids == null || ids.isEmpty()) {
+            return new ResultadoOperacaoLoteDTO(new ArrayList<>(), new ArrayList<>());
+        }
+        if (ids.size() > tamanhoMaximoLote) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O lote excede o limite de " + tamanhoMaximoLote + " tarefas.");
+        }
+        List<Long> idsUnicos = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<Long> afetados = new HashSet<>();
+        // O PostgreSQL limita a quantidade de parâmetros por comando, então o IN é dividido em blocos.
+        for (int inicio = 0; inicio < idsUnicos.size(); inicio += TAMANHO_BLOCO_IN) {
+            List<Long> chunk = idsUnicos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_IN, idsUnicos.size()));
+            for (Object[] linha : operacao.apply(chunk)) {
+                long id = ((Number) linha[0]).longValue();
+                afetados.add(id);
+                Long idUsuario = linha[1] != null ? ((Number) linha[1]).longValue() : null;
+                Status statusTarefa = linha[2] != null ? Status.valueOf(linha[2].toString()) : null;
+                // Na exclusão o RETURNING traz só o status que a tarefa tinha.
+                Status statusAnterior = linha.length > 3 && linha[3] != null ? Status.valueOf(linha[3].toString()) : statusTarefa;
+                eventPublisher.publishEvent(new EventoTarefaDTO(tipoEvento, id, idUsuario, statusTarefa, statusAnterior, emailAutor));
+            }
+        }
+        List<Long> listaAfetados = new ArrayList<>();
+        List<Long> rejeitados = new ArrayList<>();
+        // O cache é transacional (ver CacheConfig): as remoções só valem depois do commit.
+        Cache cacheTarefas = cacheManager.getCache(CacheConfig.CACHE_TAREFAS);
+        for (Long id : idsUnicos) {
+            if (afetados.contains(id)) {
+                listaAfetados.add(id);
+                if (cacheTarefas != null) {
+                    cacheTarefas.evict(id);
+                }
+            } else {
+                rejeitados.add(id);
+            }
+        }
+        return new ResultadoOperacaoLoteDTO(listaAfetados, rejeitados);
+    }
 
+    // Tarefas arquivadas (ver ArquivamentoTarefas) são lidas de tarefa_arquivo sem passar para a tabela principal.
+    // Consulta nativa com o responsável no mesmo SELECT (addJoin), como o fetch join das consultas em tarefa: a
+    // resposta é serializada fora da transação. As entidades carregadas não estão em tarefa, então só são lidas
+    // em transações somente leitura.
+    private NativeQuery<?> consultaArquivadas(String condicao) {
+        return entityManager.createNativeQuery("select {t.*}, {u.*} from tarefa_arquivo t "
+                        + "left join usuario u on u.id = t.usuario_id " + condicao + " order by t.id")
+                .unwrap(NativeQuery.class)
+                .addEntity("t", Tarefa.class)
+                .addJoin("u", "t.usuario");
+    }
 
+    // Cada linha traz a tarefa e o responsável já associado a ela.
+    private static Tarefa tarefaDaLinha(Object linha) {
+        return (Tarefa) ((Object[]) linha)[0];
+    }
+
+    private Optional<Tarefa> buscarArquivada(Long id) {
+        return consultaArquivadas("where t.id = :id")
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(TarefaServiceImpl::tarefaDaLinha);
+    }
+
+    private Stream<Tarefa> streamTarefasArquivadas() {
+        return consultaArquivadas("")
+                .setFetchSize(TAMANHO_FETCH_EXPORTACAO)
+                .setReadOnly(true)
+                .stream()
+                .map(TarefaServiceImpl::tarefaDaLinha);
+    }
+
+    // Para alterar ou excluir, a tarefa arquivada do próprio criador volta para a tabela principal.
+    // A de outro usuário continua no arquivo e a resposta é a mesma de uma tarefa ativa: acesso negado.
+    private Tarefa buscarParaAlteracao(Long id, String emailAutenticado, String mensagemAcessoNegado)
+            throws TaskNotFoundException {
+        Optional<Tarefa> tarefa = tarefaRepository.findById(id);
+        if (tarefa.isEmpty() && tarefaRepository.restaurarArquivadas(List.of(id), emailAutenticado) > 0) {
+            tarefa = tarefaRepository.findById(id);
+        }
+        if (tarefa.isEmpty() && tarefaRepository.buscarCriadorArquivada(id).isPresent()) {
+            throw new AccessDeniedException(mensagemAcessoNegado);
+        }
+        return tarefa.orElseThrow(() -> new TaskNotFoundException("Tarefa Inexistente."));
     }
 
+    // O histórico é gravado na própria transação; os demais ouvintes só recebem o evento depois do commit
+    // (ver HistoricoTarefa, EventosTarefaHub e ContadoresTarefa).
+    private void publicarEvento(TipoEventoTarefa tipo, Tarefa tarefa, Status statusAnterior, String emailAutor) {
+        Long idUsuario = tarefa.getUsuario() != null ? tarefa.getUsuario().getId() : null;
+        eventPublisher.publishEvent(new EventoTarefaDTO(tipo, tarefa.getId(), idUsuario, tarefa.getStatus(), statusAnterior, emailAutor));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> obterVersaoTarefa(Long id) {
+        return tarefaRepository.buscarVersao(id).or(() -> tarefaRepository.buscarVersaoArquivada(id));
+    }
+
+    @Override
+    public String obterVersaoListagem() {
+        return versaoListagemTarefas.obter();
+    }
+
+    @Override
+    public ResumoTarefasDTO obterResumo(Long idUsuario) {
+        return contadoresTarefa.obterResumo(idUsuario);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaTarefasDTO listarTarefasArquivadas(String cursor, Integer tamanho) {
+        int tamanhoPagina = tamanho == null ? tamanhoPadraoPagina : Math.max(1, Math.min(tamanho, tamanhoMaximoPagina));
+        Long ultimoId = cursor == null || cursor.isBlank() ? 0L : decodificarCursorId(cursor);
+        // Busca um registro a mais para saber se existe próxima página sem precisar de um count.
+        List<Tarefa> tarefas = consultaArquivadas("where t.id > :ultimoId")
+                .setParameter("ultimoId", ultimoId)
+                .setMaxResults(tamanhoPagina + 1)
+                .getResultStream()
+                .map(TarefaServiceImpl::tarefaDaLinha)
+                .collect(Collectors.toList());
+
+        String proximoCursor = null;
+        if (tarefas.size() > tamanhoPagina) {
+            tarefas = tarefas.subList(0, tamanhoPagina);
+            proximoCursor = codificarCursor(String.valueOf(tarefas.get(tamanhoPagina - 1).getId()));
+        }
+        return new PaginaTarefasDTO(tarefas, tarefas.size(), proximoCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Tarefa> listaTarefasPorStatus(Status status){
-        return (List<Tarefa>) tarefaRepository.findTarefaByStatus(status);
+        List<Tarefa> tarefas = new ArrayList<>(tarefaRepository.findTarefaByStatus(status));
+        if (status != Status.CONCLUIDA) {
+            return tarefas;
+        }
+        // Só concluídas são arquivadas: a lista traz todas as do arquivo depois das ativas, numa consulta só
+        // (com o responsável). Uma tarefa arquivada entre as duas consultas não se repete.
+        Set<Long> idsAtivas = tarefas.stream().map(Tarefa::getId).collect(Collectors.toSet());
+        consultaArquivadas("").getResultStream()
+                .map(TarefaServiceImpl::tarefaDaLinha)
+                .filter(arquivada -> !idsAtivas.contains(arquivada.getId()))
+                .forEach(tarefas::add);
+        return tarefas;
     }
 }
@@ -1,31 +1,46 @@
 package com.app.tarefaApi.Service.Impl;
 
+import com.app.tarefaApi.Config.CacheConfig;
 import com.app.tarefaApi.Domain.Entity.Usuario;
 import com.app.tarefaApi.Domain.Repository.UsuarioRepository;
 import com.app.tarefaApi.Exception.SenhaInvalidaException;
 import com.app.tarefaApi.Exception.UserAlreadyExistsException;
 import com.app.tarefaApi.Exception.UserNotFoundException;
+import com.app.tarefaApi.Security.Jwt.PrincipalCache;
+import com.app.tarefaApi.Security.Jwt.UsuarioAutenticado;
 import com.app.tarefaApi.Service.UsuarioService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "servico", histogram = true)
 public class UsuarioServiceImpl implements UsuarioService, UserDetailsService {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private final PasswordEncoder passwordEncoder;
 
     @Autowired
@@ -33,17 +48,21 @@ public class UsuarioServiceImpl implements UsuarioService, UserDetailsService {
         this.passwordEncoder = passwordEncoder;
     }
 
-    @Transactional
+    // O hash (espera e execução no executor do BCrypt) acontece antes da transação: uma rajada de cadastros
+    // não segura conexões do pool enquanto espera. A transação só verifica o email e grava.
     @Override
     public Usuario registrar(Usuario usuario) throws UserAlreadyExistsException {
-        Optional<Usuario> userOptional = Optional.ofNullable(usuarioRepository.findUserByEmail(usuario.getEmail())); // Buscar o usuário pelo email
-        if (userOptional.isPresent()) {
-            throw new UserAlreadyExistsException( "Usuário já Existente : " + usuario.getEmail() );
-        }else{
-            usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
+        usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
+        Usuario registrado = new TransactionTemplate(transactionManager).execute(status -> {
+            if (usuarioRepository.findUserByEmail(usuario.getEmail()) != null) {
+                return null;
+            }
             return usuarioRepository.save(usuario);
+        });
+        if (registrado == null) {
+            throw new UserAlreadyExistsException( "Usuário já Existente : " + usuario.getEmail() );
         }
-
+        return registrado;
     }
 
     public UserDetails autenticar(Usuario usuario) throws SenhaInvalidaException {
@@ -57,11 +76,14 @@ public class UsuarioServiceImpl implements UsuarioService, UserDetailsService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<Usuario> listarUsuarios() {
         return usuarioRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CACHE_USUARIOS, key = "#id")
     public Optional<Usuario>  obterUsuarioPorId(Long id) throws UserNotFoundException {
         Optional<Usuario> usuario = usuarioRepository.findById(id);
         if(usuario.isPresent()){
@@ -71,6 +93,7 @@ public class UsuarioServiceImpl implements UsuarioService, UserDetailsService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CACHE_USUARIOS, key = "#id")
     public void excluirUsuario(Long id) throws UserNotFoundException {
         // Obtem o login do usuário autenticado
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -87,20 +110,21 @@ public class UsuarioServiceImpl implements UsuarioService, UserDetailsService {
 
         // Exclua o usuário se a verificação passar
         usuarioRepository.deleteById(id);
+        principalCache.invalidar(usuario.getEmail());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         Optional<Usuario> usuario = Optional.ofNullable(usuarioRepository.findUserByEmail(email));
         if(usuario.isPresent()){
-            String[] roles = new String[]{"USER"};
-
-            return User
-                    .builder()
-                    .username(usuario.get().getEmail())
-                    .password(usuario.get().getSenha())
-                    .roles(roles)
-                    .build();
+            String[] roles = new String[]{"ROLE_USER"};
+
+            return new UsuarioAutenticado(
+                    usuario.get().getId(),
+                    usuario.get().getEmail(),
+                    usuario.get().getSenha(),
+                    AuthorityUtils.createAuthorityList(roles));
         }else{
             throw new UsernameNotFoundException("Usuário não encontrado na base de dados.");
         }
@@ -0,0 +1,177 @@
+package com.app.tarefaApi.Service.Resumo;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.ResumoTarefasDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Contagem de tarefas por status e por usuário responsável, mantida em memória a partir dos
+ * eventos de alteração (após o commit) para que o resumo não precise consultar a tabela.
+ * Um GROUP BY periódico substitui os contadores e corrige desvios (eventos de outras instâncias ou
+ * alterações feitas direto no banco). Os eventos recebidos enquanto o GROUP BY roda também são guardados
+ * à parte e reaplicados sobre a contagem nova antes da troca. Um evento confirmado antes do início da
+ * consulta, mas aplicado depois que a reconciliação começou, é contado duas vezes até a próxima reconciliação.
+ * Sem usuário, o resumo traz só os totais globais, para não percorrer todos os usuários a cada leitura.
+ */
+@Component
+public class ContadoresTarefa {
+    private static final Logger logger = LoggerFactory.getLogger(ContadoresTarefa.class);
+    private static final Status[] STATUS = Status.values();
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    // Leitura: eventos aplicados em paralelo; escrita: início e troca da reconciliação.
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private volatile Contagem contagem = new Contagem();
+    private volatile LocalDateTime ultimaReconciliacao;
+    // Eventos recebidos durante a reconciliação em andamento, ou null fora dela (protegido pela trava).
+    private Contagem recebidosNaReconciliacao;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aplicar(EventoTarefaDTO evento) {
+        trava.readLock().lock();
+        try {
+            aplicar(contagem, evento);
+            if (recebidosNaReconciliacao != null) {
+                aplicar(recebidosNaReconciliacao, evento);
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private static void aplicar(Contagem atual, EventoTarefaDTO evento) {
+        switch (evento.getTipo()) {
+            case CRIADA:
+                atual.somar(evento.getIdUsuario(), evento.getStatus(), 1);
+                break;
+            case ATUALIZADA:
+                if (evento.getStatusAnterior() != evento.getStatus()) {
+                    atual.somar(evento.getIdUsuario(), evento.getStatusAnterior(), -1);
+                    atual.somar(evento.getIdUsuario(), evento.getStatus(), 1);
+                }
+                break;
+            case EXCLUIDA:
+                atual.somar(evento.getIdUsuario(), evento.getStatusAnterior(), -1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tarefa.resumo.reconciliacao-ms:300000}",
+            fixedDelayString = "${tarefa.resumo.reconciliacao-ms:300000}")
+    public synchronized void reconciliar() {
+        trocarRecebidos(new Contagem());
+        Contagem nova = new Contagem();
+        try {
+            for (Object[] linha : tarefaRepository.contarPorUsuarioEStatus()) {
+                Long idUsuario = linha[0] != null ? ((Number) linha[0]).longValue() : null;
+                Status status = linha[1] != null ? Status.valueOf(linha[1].toString()) : null;
+                nova.somar(idUsuario, status, ((Number) linha[2]).longValue());
+            }
+        } catch (DataAccessException e) {
+            trocarRecebidos(null);
+            logger.warn("Falha ao reconciliar os contadores de tarefas: {}", e.getMessage());
+            return;
+        }
+        trava.writeLock().lock();
+        try {
+            nova.incorporar(recebidosNaReconciliacao);
+            recebidosNaReconciliacao = null;
+            contagem = nova;
+        } finally {
+            trava.writeLock().unlock();
+        }
+        ultimaReconciliacao = LocalDateTime.now();
+        logger.debug("Contadores de tarefas reconciliados.");
+    }
+
+    private void trocarRecebidos(Contagem recebidos) {
+        trava.writeLock().lock();
+        try {
+            recebidosNaReconciliacao = recebidos;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public ResumoTarefasDTO obterResumo(Long idUsuario) {
+        Contagem atual = contagem;
+        Map<Long, Map<Status, Long>> porUsuario = new LinkedHashMap<>();
+        Map<Status, Long> porStatus;
+        if (idUsuario != null) {
+            LongAdder[] contadores = atual.porUsuario.get(idUsuario);
+            porStatus = paraMapa(contadores);
+            porUsuario.put(idUsuario, porStatus);
+        } else {
+            porStatus = paraMapa(atual.totais);
+        }
+        long total = porStatus.values().stream().mapToLong(Long::longValue).sum();
+        return new ResumoTarefasDTO(porStatus, total, porUsuario, ultimaReconciliacao);
+    }
+
+    private static Map<Status, Long> paraMapa(LongAdder[] contadores) {
+        Map<Status, Long> mapa = new EnumMap<>(Status.class);
+        for (Status status : STATUS) {
+            mapa.put(status, contadores != null ? Math.max(0, contadores[status.ordinal()].sum()) : 0L);
+        }
+        return mapa;
+    }
+
+    private static LongAdder[] novosContadores() {
+        LongAdder[] contadores = new LongAdder[STATUS.length];
+        for (int i = 0; i < contadores.length; i++) {
+            contadores[i] = new LongAdder();
+        }
+        return contadores;
+    }
+
+    private static final class Contagem {
+        private final LongAdder[] totais = novosContadores();
+        private final ConcurrentHashMap<Long, LongAdder[]> porUsuario = new ConcurrentHashMap<>();
+
+        private void somar(Long idUsuario, Status status, long quantidade) {
+            if (status == null) {
+                return;
+            }
+            totais[status.ordinal()].add(quantidade);
+            if (idUsuario != null) {
+                porUsuario.computeIfAbsent(idUsuario, id -> novosContadores())[status.ordinal()].add(quantidade);
+            }
+        }
+
+        private void incorporar(Contagem outra) {
+            for (Status status : STATUS) {
+                totais[status.ordinal()].add(outra.totais[status.ordinal()].sum());
+            }
+            outra.porUsuario.forEach((idUsuario, contadores) -> {
+                LongAdder[] destino = porUsuario.computeIfAbsent(idUsuario, id -> novosContadores());
+                for (Status status : STATUS) {
+                    destino[status.ordinal()].add(contadores[status.ordinal()].sum());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.tarefaApi.Service.Resumo;
+
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versão da listagem de tarefas usada no ETag de GET /api/tarefas, mantida em memória: um contador
+ * incrementado a cada evento de alteração (após o commit) e a cada lote arquivado, prefixado pelo instante
+ * de início do processo para que um ETag de outra execução nunca coincida. Como em ContadoresTarefa, uma
+ * consulta periódica (quantidade, maior id e soma das versões) incrementa o contador se a tabela mudou sem
+ * evento local (outras instâncias ou alterações feitas direto no banco).
+ * A versão deve ser lida antes das tarefas: uma alteração confirmada entre as duas leituras só faz o
+ * cliente baixar a listagem de novo na requisição seguinte.
+ */
+@Component
+public class VersaoListagemTarefas {
+    private static final Logger logger = LoggerFactory.getLogger(VersaoListagemTarefas.class);
+
+    private final String epoca = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong contador = new AtomicLong();
+    private volatile String ultimaConsulta;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    public String obter() {
+        return epoca + "-" + contador.get();
+    }
+
+    public void incrementar() {
+        contador.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aplicar(EventoTarefaDTO evento) {
+        incrementar();
+    }
+
+    @Scheduled(initialDelayString = "${tarefa.listagem.reconciliacao-ms:30000}",
+            fixedDelayString = "${tarefa.listagem.reconciliacao-ms:30000}")
+    public void reconciliar() {
+        try {
+            TarefaRepository.VersaoListagem versao = tarefaRepository.buscarVersaoListagem();
+            String consulta = versao.getQuantidade() + "-" + versao.getMaiorId() + "-" + versao.getSomaVersoes();
+            if (ultimaConsulta != null && !ultimaConsulta.equals(consulta)) {
+                incrementar();
+            }
+            ultimaConsulta = consulta;
+        } catch (DataAccessException e) {
+            logger.warn("Falha ao reconciliar a versão da listagem de tarefas: {}", e.getMessage());
+        }
+    }
+}
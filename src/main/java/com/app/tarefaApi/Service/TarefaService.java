@@ -1,20 +1,47 @@
 package com.app.tarefaApi.Service;
 
 import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Enums.FormatoTransferencia;
+import com.app.tarefaApi.Domain.Enums.OrdenacaoTarefa;
 import com.app.tarefaApi.Domain.Enums.Status;
 import com.app.tarefaApi.Exception.TaskNotFoundException;
 import com.app.tarefaApi.Exception.UserNotFoundException;
+import com.app.tarefaApi.Rest.DTO.FiltroTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.PaginaTarefasDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoImportacaoDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoOperacaoLoteDTO;
+import com.app.tarefaApi.Rest.DTO.ResumoTarefasDTO;
 import com.app.tarefaApi.Rest.DTO.TarefaDTO;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 public interface TarefaService {
     Tarefa criarTarefa(TarefaDTO tarefaDTO) throws UserNotFoundException;
+    List<ResultadoLoteDTO> criarTarefasEmLote(List<TarefaDTO> tarefasDTO) throws UserNotFoundException;
     Optional<Tarefa> obterTarefaPorId(Long id) throws TaskNotFoundException;
     List<Tarefa> obterTodasTarefas();
+    PaginaTarefasDTO listarPaginaTarefas(String cursor, Integer tamanho, OrdenacaoTarefa ordenacao);
+    PaginaTarefasDTO filtrarTarefas(FiltroTarefaDTO filtro, String cursor, Integer tamanho);
+    PaginaTarefasDTO buscarTarefas(String texto, String cursor, Integer tamanho);
+    void escreverTarefasNdjson(OutputStream outputStream) throws IOException;
+    void exportarTarefas(FormatoTransferencia formato, OutputStream outputStream) throws IOException;
+    ResultadoImportacaoDTO importarTarefas(FormatoTransferencia formato, InputStream inputStream) throws IOException, UserNotFoundException;
     Tarefa atualizaTarefa(Long id, TarefaDTO tarefaDTO) throws UserNotFoundException, TaskNotFoundException;
+    Tarefa atualizaTarefa(Long id, TarefaDTO tarefaDTO, Set<Long> versoesAceitas) throws UserNotFoundException, TaskNotFoundException;
+    Optional<Long> obterVersaoTarefa(Long id);
+    String obterVersaoListagem();
+    ResumoTarefasDTO obterResumo(Long idUsuario);
     void excluiTarefa(Long id) throws TaskNotFoundException;
+    ResultadoOperacaoLoteDTO atualizarStatusEmLote(List<Long> ids, Status status);
+    ResultadoOperacaoLoteDTO atualizarStatusEmLote(List<Long> ids, Status status, String emailCriador);
+    ResultadoOperacaoLoteDTO excluirEmLote(List<Long> ids);
     List<Tarefa> listaTarefasPorStatus(Status status);
+    PaginaTarefasDTO listarTarefasArquivadas(String cursor, Integer tamanho);
 }
@@ -0,0 +1,52 @@
+package com.app.tarefaApi.Service.Transferencia;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escrita de tarefas em CSV (RFC 4180): cabeçalho com os nomes das colunas, campos com vírgula, aspas ou
+ * quebra de linha entre aspas e linhas terminadas em CRLF. A leitura fica em LeitorImportacao.
+ */
+public final class CsvTarefas {
+    public static final List<String> COLUNAS = Arrays.asList(
+            "id", "titulo", "descricao", "status", "criador", "emailCriador", "dataCriacao", "idUsuario", "versao");
+
+    private CsvTarefas() {
+    }
+
+    public static void escreverCabecalho(Writer writer) throws IOException {
+        writer.write(String.join(",", COLUNAS));
+        writer.write("\r\n");
+    }
+
+    public static void escreverLinha(Writer writer, Tarefa tarefa) throws IOException {
+        escreverCampo(writer, tarefa.getId());
+        escreverCampo(writer, tarefa.getTitulo());
+        escreverCampo(writer, tarefa.getDescricao());
+        escreverCampo(writer, tarefa.getStatus());
+        escreverCampo(writer, tarefa.getCriador());
+        escreverCampo(writer, tarefa.getEmailCriador());
+        escreverCampo(writer, tarefa.getDataCriacao());
+        escreverCampo(writer, tarefa.getUsuario() != null ? tarefa.getUsuario().getId() : null);
+        writer.write(tarefa.getVersao() != null ? tarefa.getVersao().toString() : "");
+        writer.write("\r\n");
+    }
+
+    private static void escreverCampo(Writer writer, Object valor) throws IOException {
+        if (valor != null) {
+            String texto = valor.toString();
+            if (texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0 || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(texto.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(texto);
+            }
+        }
+        writer.write(',');
+    }
+}
@@ -0,0 +1,271 @@
+package com.app.tarefaApi.Service.Transferencia;
+
+import com.app.tarefaApi.Domain.Enums.FormatoTransferencia;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Rest.DTO.TarefaDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê tarefas de um arquivo CSV ou NDJSON um registro por vez, sem carregar o arquivo em memória.
+ * Aceita o que /api/tarefas/export gera: no CSV as colunas são localizadas pelo cabeçalho e no NDJSON
+ * o responsável pode vir em idUsuario ou usuario.id. Cada registro volta com a linha do arquivo em que
+ * começa e a tarefa validada ou o motivo da rejeição.
+ */
+public class LeitorImportacao {
+    public static final int MAXIMO_CARACTERES_REGISTRO = 65536;
+    private static final int TAMANHO_MAXIMO_TEXTO = 255;
+
+    private final FormatoTransferencia formato;
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> colunas;
+    private long linhaAtual = 1;
+    private boolean interrompido;
+
+    public LeitorImportacao(FormatoTransferencia formato, Reader reader, ObjectMapper objectMapper) {
+        this.formato = formato;
+        this.reader = new BufferedReader(reader, 65536);
+        this.objectMapper = objectMapper;
+    }
+
+    // Devolve null no fim do arquivo.
+    public Registro proximo() throws IOException {
+        if (interrompido) {
+            return null;
+        }
+        try {
+            return formato == FormatoTransferencia.CSV ? proximoCsv() : proximoNdjson();
+        } catch (RegistroExcedidoException e) {
+            // Sem o fim do registro não há como achar o início do próximo (ex.: aspas sem fechamento).
+            interrompido = true;
+            return Registro.erro(e.linha, "Registro com mais de " + MAXIMO_CARACTERES_REGISTRO
+                    + " caracteres; importação interrompida.");
+        }
+    }
+
+    private Registro proximoCsv() throws IOException {
+        if (colunas == null) {
+            List<String> cabecalho = lerRegistroCsv();
+            if (cabecalho == null) {
+                return null;
+            }
+            colunas = new HashMap<>();
+            for (int i = 0; i < cabecalho.size(); i++) {
+                colunas.put(cabecalho.get(i).trim(), i);
+            }
+            for (String obrigatoria : new String[]{"titulo", "status", "idUsuario"}) {
+                if (!colunas.containsKey(obrigatoria)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Cabeçalho do CSV sem a coluna " + obrigatoria + ".");
+                }
+            }
+        }
+        List<String> campos;
+        long linha;
+        do {
+            linha = linhaAtual;
+            campos = lerRegistroCsv();
+            if (campos == null) {
+                return null;
+            }
+        } while (campos.size() == 1 && campos.get(0).isEmpty());
+        return validar(linha, campoCsv(campos, "titulo"), campoCsv(campos, "descricao"), campoCsv(campos, "status"),
+                campoCsv(campos, "idUsuario"), campoCsv(campos, "dataCriacao"));
+    }
+
+    private Registro proximoNdjson() throws IOException {
+        String texto;
+        long linha;
+        do {
+            linha = linhaAtual;
+            texto = lerLinha();
+            if (texto == null) {
+                return null;
+            }
+        } while (texto.isBlank());
+        JsonNode no;
+        try {
+            no = objectMapper.readTree(texto);
+        } catch (JsonProcessingException e) {
+            return Registro.erro(linha, "JSON inválido.");
+        }
+        if (!no.isObject()) {
+            return Registro.erro(linha, "Cada linha deve ser um objeto JSON.");
+        }
+        String idUsuario = campoJson(no, "idUsuario");
+        if (idUsuario == null) {
+            idUsuario = campoJson(no.path("usuario"), "id");
+        }
+        return validar(linha, campoJson(no, "titulo"), campoJson(no, "descricao"), campoJson(no, "status"),
+                idUsuario, campoJson(no, "dataCriacao"));
+    }
+
+    private Registro validar(long linha, String titulo, String descricao, String status, String idUsuario,
+                             String dataCriacao) {
+        if (titulo == null || titulo.isBlank()) {
+            return Registro.erro(linha, "Título obrigatório.");
+        }
+        if (titulo.length() > TAMANHO_MAXIMO_TEXTO) {
+            return Registro.erro(linha, "Título com mais de " + TAMANHO_MAXIMO_TEXTO + " caracteres.");
+        }
+        if (descricao != null && descricao.length() > TAMANHO_MAXIMO_TEXTO) {
+            return Registro.erro(linha, "Descrição com mais de " + TAMANHO_MAXIMO_TEXTO + " caracteres.");
+        }
+        TarefaDTO tarefa = new TarefaDTO();
+        tarefa.setTitulo(titulo);
+        tarefa.setDescricao(descricao);
+        try {
+            tarefa.setStatus(Status.valueOf(status == null ? "" : status.trim()));
+        } catch (IllegalArgumentException e) {
+            return Registro.erro(linha, "Status inválido: " + status + ".");
+        }
+        try {
+            tarefa.setIdUsuario(Long.parseLong(idUsuario == null ? "" : idUsuario.trim()));
+        } catch (NumberFormatException e) {
+            return Registro.erro(linha, "idUsuario inválido: " + idUsuario + ".");
+        }
+        if (dataCriacao != null && !dataCriacao.isBlank()) {
+            try {
+                tarefa.setDataCriacao(LocalDateTime.parse(dataCriacao.trim()));
+            } catch (DateTimeParseException e) {
+                return Registro.erro(linha, "dataCriacao inválida: " + dataCriacao + ".");
+            }
+        }
+        return new Registro(linha, tarefa, null);
+    }
+
+    private String campoCsv(List<String> campos, String coluna) {
+        Integer indice = colunas.get(coluna);
+        if (indice == null || indice >= campos.size() || campos.get(indice).isEmpty()) {
+            return null;
+        }
+        return campos.get(indice);
+    }
+
+    private static String campoJson(JsonNode no, String campo) {
+        JsonNode valor = no.get(campo);
+        return valor == null || valor.isNull() ? null : valor.asText();
+    }
+
+    // Registro CSV (RFC 4180): entre aspas valem vírgulas, quebras de linha e aspas duplicadas ("").
+    private List<String> lerRegistroCsv() throws IOException {
+        long inicio = linhaAtual;
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leu = false;
+        int total = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            leu = true;
+            if (++total > MAXIMO_CARACTERES_REGISTRO) {
+                throw new RegistroExcedidoException(inicio);
+            }
+            if (entreAspas) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                linhaAtual++;
+                campos.add(campo.toString());
+                return campos;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+        }
+        if (!leu) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private String lerLinha() throws IOException {
+        StringBuilder linha = new StringBuilder();
+        boolean leu = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            leu = true;
+            if (c == '\n') {
+                break;
+            }
+            if (linha.length() >= MAXIMO_CARACTERES_REGISTRO) {
+                throw new RegistroExcedidoException(linhaAtual);
+            }
+            if (c != '\r') {
+                linha.append((char) c);
+            }
+        }
+        if (!leu) {
+            return null;
+        }
+        linhaAtual++;
+        return linha.toString();
+    }
+
+    public static class Registro {
+        private final long linha;
+        private final TarefaDTO tarefa;
+        private final String erro;
+
+        private Registro(long linha, TarefaDTO tarefa, String erro) {
+            this.linha = linha;
+            this.tarefa = tarefa;
+            this.erro = erro;
+        }
+
+        private static Registro erro(long linha, String erro) {
+            return new Registro(linha, null, erro);
+        }
+
+        public long getLinha() {
+            return linha;
+        }
+
+        public TarefaDTO getTarefa() {
+            return tarefa;
+        }
+
+        public String getErro() {
+            return erro;
+        }
+    }
+
+    private static class RegistroExcedidoException extends IOException {
+        private final long linha;
+
+        private RegistroExcedidoException(long linha) {
+            this.linha = linha;
+        }
+    }
+}
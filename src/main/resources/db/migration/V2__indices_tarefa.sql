@@ -0,0 +1,15 @@
+-- Bancos criados pelo ddl-auto usavam bigserial (incremento 1); o gerador de id
+-- da Tarefa reserva blocos de 50 e precisa que a sequence avance no mesmo passo.
+alter sequence tarefa_id_seq increment by 50;
+
+-- /api/tarefas/status/{status} e filtro por status ordenado por data de criação
+create index if not exists idx_tarefa_status_data_criacao on tarefa (status, data_criacao, id);
+
+-- Tarefas de um responsável, com ou sem status
+create index if not exists idx_tarefa_usuario_status on tarefa (usuario_id, status, data_criacao);
+
+-- Tarefas de um criador e verificações de propriedade
+create index if not exists idx_tarefa_email_criador on tarefa (email_criador, data_criacao);
+
+-- Paginação por data de criação e filtro por período
+create index if not exists idx_tarefa_data_criacao on tarefa (data_criacao, id);
@@ -0,0 +1,2 @@
+-- Versão para lock otimista e ETag das respostas de tarefa
+alter table tarefa add column if not exists versao bigint not null default 0;
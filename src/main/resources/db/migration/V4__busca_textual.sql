@@ -0,0 +1,25 @@
+-- Busca textual em titulo e descricao (/api/tarefas/busca).
+-- A configuração pt_sem_acento aplica unaccent antes do stemmer em português, então
+-- "tarefa", "Tarefá" e "TAREFAS" geram o mesmo lexema. Requer a extensão unaccent
+-- (contrib do PostgreSQL; criar a extensão exige permissão no banco).
+create extension if not exists unaccent;
+
+do $$
+begin
+    if not exists (select 1 from pg_ts_config where cfgname = 'pt_sem_acento') then
+        create text search configuration pt_sem_acento (copy = portuguese);
+        alter text search configuration pt_sem_acento
+            alter mapping for hword, hword_part, word with unaccent, portuguese_stem;
+    end if;
+end
+$$;
+
+-- Coluna gerada (PostgreSQL 12+): mantida pelo próprio banco em todo insert/update,
+-- inclusive nas operações em lote nativas. O título pesa mais que a descrição no ranking.
+alter table tarefa add column if not exists busca tsvector
+    generated always as (
+        setweight(to_tsvector('pt_sem_acento'::regconfig, coalesce(titulo, '')), 'A') ||
+        setweight(to_tsvector('pt_sem_acento'::regconfig, coalesce(descricao, '')), 'B')
+    ) stored;
+
+create index if not exists idx_tarefa_busca on tarefa using gin (busca);
@@ -0,0 +1,44 @@
+-- Histórico de alterações de tarefas, gravado na mesma transação da alteração (ver HistoricoTarefa).
+-- Só acrescenta linhas: tipo, status anterior e novo, autor e data, sem cópia de título e descrição.
+-- Particionado por mês para que a exportação por período leia só as partições do intervalo
+-- e partições antigas possam ser arquivadas ou removidas inteiras.
+create table if not exists historico_tarefa (
+    id              bigint       generated always as identity,
+    id_tarefa       bigint       not null,
+    tipo            varchar(10)  not null,
+    status_anterior varchar(20),
+    status_novo     varchar(20),
+    email_autor     varchar(255) not null,
+    data_alteracao  timestamp    not null default now(),
+    primary key (id, data_alteracao)
+) partition by range (data_alteracao);
+
+-- /api/tarefas/{id}/historico: um índice por partição
+create index if not exists idx_historico_tarefa_id_tarefa on historico_tarefa (id_tarefa, data_alteracao);
+
+-- Recebe o que cair fora das partições mensais; deve ficar vazia se as partições forem criadas com antecedência.
+create table if not exists historico_tarefa_padrao partition of historico_tarefa default;
+
+-- Cria as partições do mês corrente e dos próximos meses_a_frente meses. Chamada aqui e
+-- periodicamente pela aplicação; se a partição padrão já tiver linhas do mês, ele é pulado com aviso.
+create or replace function garantir_particoes_historico(meses_a_frente integer) returns void as $$
+declare
+    inicio date;
+    particao text;
+begin
+    for i in 0..meses_a_frente loop
+        inicio := (date_trunc('month', now()) + make_interval(months => i))::date;
+        particao := 'historico_tarefa_' || to_char(inicio, 'YYYY_MM');
+        if to_regclass(particao) is null then
+            begin
+                execute format('create table %I partition of historico_tarefa for values from (%L) to (%L)',
+                               particao, inicio, (inicio + interval '1 month')::date);
+            exception when check_violation then
+                raise warning 'Partição % não criada: a partição padrão já tem linhas do período.', particao;
+            end;
+        end if;
+    end loop;
+end;
+$$ language plpgsql;
+
+select garantir_particoes_historico(3);
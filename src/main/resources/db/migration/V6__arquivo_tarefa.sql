@@ -0,0 +1,18 @@
+-- Arquivo frio das tarefas concluídas (ver ArquivamentoTarefas). As linhas são movidas de tarefa para cá
+-- e mantêm id e versão; consultas por id e alterações voltam a encontrá-las (estas devolvem a tarefa à
+-- tabela principal). Sem a coluna de busca textual: a busca cobre só as tarefas ativas.
+create table if not exists tarefa_arquivo (
+    id                bigint       primary key,
+    titulo            varchar(255),
+    descricao         varchar(255),
+    status            varchar(255),
+    criador           varchar(255),
+    email_criador     varchar(255),
+    data_criacao      timestamp,
+    usuario_id        bigint references usuario (id),
+    versao            bigint       not null default 0,
+    data_arquivamento timestamp    not null default now()
+);
+
+-- /api/tarefas/status/CONCLUIDA e reconciliação do resumo por responsável
+create index if not exists idx_tarefa_arquivo_usuario on tarefa_arquivo (usuario_id, status);
@@ -0,0 +1,150 @@
+package com.app.tarefaApi.Domain.Repository;
+
+import com.app.tarefaApi.Config.ContadorStatementsInspector;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Rest.DTO.FiltroTarefaDTO;
+import com.app.tarefaApi.Service.TarefaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// O inspector de teste guarda o SQL que o Hibernate realmente gera; é esse SQL que passa pelo EXPLAIN.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.app.tarefaApi.Domain.Repository.TarefaIndicesTests$CapturaSql")
+@Transactional
+class TarefaIndicesTests {
+	private static final LocalDateTime AGORA = LocalDateTime.now();
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TarefaRepository tarefaRepository;
+
+	@Autowired
+	private UsuarioRepository usuarioRepository;
+
+	@Autowired
+	private TarefaService tarefaService;
+
+	@BeforeEach
+	void desabilitarSeqScan() {
+		// Com a tabela quase vazia o planner sempre prefere seq scan; desligando-o,
+		// o seq scan só aparece se nenhum índice atender a consulta.
+		jdbcTemplate.execute("set local enable_seqscan = off");
+		// O EXPLAIN EXECUTE recebe parâmetros nulos; o plano genérico não depende dos valores.
+		jdbcTemplate.execute("set local plan_cache_mode = force_generic_plan");
+	}
+
+	static Stream<Arguments> consultas() {
+		return Stream.of(
+				consulta("findTarefaByStatus", teste -> teste.tarefaRepository.findTarefaByStatus(Status.PENDENTE)),
+				consulta("filtrarTarefas por status", teste -> teste.filtrar(new FiltroTarefaDTO(Status.PENDENTE, null, null, null, null))),
+				consulta("filtrarTarefas por usuário e status", teste -> teste.filtrar(new FiltroTarefaDTO(Status.PENDENTE, 1L, null, null, null))),
+				consulta("filtrarTarefas por usuário", teste -> teste.filtrar(new FiltroTarefaDTO(null, 1L, null, null, null))),
+				consulta("filtrarTarefas por criador", teste -> teste.filtrar(new FiltroTarefaDTO(null, null, "a@a.com", null, null))),
+				consulta("filtrarTarefas por período", teste -> teste.filtrar(new FiltroTarefaDTO(null, null, null, AGORA.minusDays(7), AGORA))),
+				consulta("filtrarTarefas sem filtro", teste -> teste.filtrar(new FiltroTarefaDTO())),
+				consulta("findAllByOrderByDataCriacaoAscIdAsc", teste -> teste.tarefaRepository.findAllByOrderByDataCriacaoAscIdAsc(PageRequest.of(0, 51))),
+				consulta("buscarPaginaAposDataCriacao", teste -> teste.tarefaRepository.buscarPaginaAposDataCriacao(AGORA, 1L, PageRequest.of(0, 51))),
+				consulta("buscarPaginaAposId", teste -> teste.tarefaRepository.buscarPaginaAposId(1L, PageRequest.of(0, 51))),
+				consulta("buscarIdsPorTexto", teste -> teste.tarefaRepository.buscarIdsPorTexto("relatorio:* & mensal:*", 51, 0)),
+				consulta("findUserByEmail", teste -> teste.usuarioRepository.findUserByEmail("a@a.com"))
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("consultas")
+	void consultaNaoUsaSeqScan(String nome, Consumer<TarefaIndicesTests> consulta) {
+		List<String> comandos = CapturaSql.durante(() -> consulta.accept(this));
+		assertFalse(comandos.isEmpty(), () -> "Nenhum SQL capturado em: " + nome);
+		for (String sql : comandos) {
+			List<String> plano = explicar(sql);
+			assertFalse(plano.stream().anyMatch(linha -> linha.contains("Seq Scan")),
+					() -> "Seq Scan em " + nome + ": " + sql + "\n" + String.join("\n", plano));
+		}
+	}
+
+	// O histórico é lido pelo JdbcTemplate (HistoricoTarefa), fora do Hibernate; a consulta é a mesma de lá.
+	@Test
+	void historicoNaoUsaSeqScan() {
+		String sql = "select * from historico_tarefa where id_tarefa = 1 order by data_alteracao, id";
+		List<String> plano = jdbcTemplate.queryForList("explain " + sql, String.class);
+		assertFalse(plano.stream().anyMatch(linha -> linha.contains("Seq Scan")),
+				() -> "Seq Scan em: " + sql + "\n" + String.join("\n", plano));
+	}
+
+	private void filtrar(FiltroTarefaDTO filtro) {
+		tarefaService.filtrarTarefas(filtro, null, 50);
+	}
+
+	// PREPARE + EXPLAIN EXECUTE: os "?" do JDBC viram $1, $2... e o PostgreSQL infere os tipos.
+	private List<String> explicar(String sql) {
+		StringBuilder numerado = new StringBuilder();
+		int parametro = 0;
+		for (char c : sql.toCharArray()) {
+			if (c == '?') {
+				numerado.append('$').append(++parametro);
+			} else {
+				numerado.append(c);
+			}
+		}
+		jdbcTemplate.execute("prepare consulta_capturada as " + numerado);
+		try {
+			String argumentos = parametro == 0 ? "" : IntStream.range(0, parametro)
+					.mapToObj(i -> "null")
+					.collect(Collectors.joining(", ", "(", ")"));
+			return jdbcTemplate.queryForList("explain execute consulta_capturada" + argumentos, String.class);
+		} finally {
+			jdbcTemplate.execute("deallocate consulta_capturada");
+		}
+	}
+
+	private static Arguments consulta(String nome, Consumer<TarefaIndicesTests> consulta) {
+		return Arguments.of(nome, consulta);
+	}
+
+	/**
+	 * Mantém a contagem do ContadorStatementsInspector e, enquanto ativo na thread, guarda o SQL inspecionado.
+	 */
+	public static class CapturaSql extends ContadorStatementsInspector {
+		private static final ThreadLocal<List<String>> CAPTURADOS = new ThreadLocal<>();
+
+		@Override
+		public String inspect(String sql) {
+			List<String> capturados = CAPTURADOS.get();
+			if (capturados != null) {
+				capturados.add(sql);
+			}
+			return super.inspect(sql);
+		}
+
+		static List<String> durante(Runnable acao) {
+			List<String> capturados = new ArrayList<>();
+			CAPTURADOS.set(capturados);
+			try {
+				acao.run();
+			} finally {
+				CAPTURADOS.remove();
+			}
+			return capturados;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.app.tarefaApi.Service.Fila;
+
+import com.app.tarefaApi.Domain.Enums.SituacaoAtualizacaoStatus;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Rest.DTO.AtualizacaoStatusDTO;
+import com.app.tarefaApi.Rest.DTO.ResultadoOperacaoLoteDTO;
+import com.app.tarefaApi.Service.TarefaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FilaStatusTarefaTests {
+	private static final long ID_COM_FALHA = 2L;
+
+	@AfterEach
+	void limparContexto() {
+		SecurityContextHolder.clearContext();
+	}
+
+	// Uma atualização que sempre falha não pode travar as demais nem voltar para a fila indefinidamente.
+	@Test
+	void atualizacaoComFalhaERejeitadaAposMaximoDeTentativas() {
+		FilaStatusTarefa fila = new FilaStatusTarefa();
+		TarefaService tarefaService = Mockito.mock(TarefaService.class);
+		ReflectionTestUtils.setField(fila, "tarefaService", tarefaService);
+		ReflectionTestUtils.setField(fila, "transactionManager", Mockito.mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(fila, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(fila, "tamanhoLote", 1000);
+		ReflectionTestUtils.setField(fila, "capacidade", 1000);
+		ReflectionTestUtils.setField(fila, "retencaoMs", 60000L);
+		ReflectionTestUtils.setField(fila, "maximoTentativas", 2);
+		ReflectionTestUtils.setField(fila, "rodando", true);
+		fila.inicializar();
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("fila@teste.com", null));
+		Mockito.when(tarefaService.atualizarStatusEmLote(ArgumentMatchers.anyList(), ArgumentMatchers.any(), ArgumentMatchers.anyString()))
+				.thenAnswer(invocacao -> {
+					List<Long> ids = invocacao.getArgument(0);
+					if (ids.contains(ID_COM_FALHA)) {
+						throw new DataIntegrityViolationException("falha");
+					}
+					return new ResultadoOperacaoLoteDTO(ids, List.of());
+				});
+
+		AtualizacaoStatusDTO primeira = fila.enfileirar(1L, Status.CONCLUIDA);
+		AtualizacaoStatusDTO comFalha = fila.enfileirar(ID_COM_FALHA, Status.CONCLUIDA);
+		AtualizacaoStatusDTO terceira = fila.enfileirar(3L, Status.CONCLUIDA);
+
+		fila.descarregar();
+		assertEquals(SituacaoAtualizacaoStatus.APLICADA, situacao(fila, primeira));
+		assertEquals(SituacaoAtualizacaoStatus.APLICADA, situacao(fila, terceira));
+		assertEquals(SituacaoAtualizacaoStatus.PENDENTE, situacao(fila, comFalha));
+
+		fila.descarregar();
+		assertEquals(SituacaoAtualizacaoStatus.REJEITADA, situacao(fila, comFalha));
+	}
+
+	private SituacaoAtualizacaoStatus situacao(FilaStatusTarefa fila, AtualizacaoStatusDTO atualizacao) {
+		return fila.consultar(atualizacao.getId()).orElseThrow().getSituacao();
+	}
+}
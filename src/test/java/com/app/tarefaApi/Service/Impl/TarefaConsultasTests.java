@@ -0,0 +1,128 @@
+package com.app.tarefaApi.Service.Impl;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Entity.Usuario;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TarefaConsultasTests {
+
+	@Autowired
+	private TarefaServiceImpl tarefaService;
+
+	@Autowired
+	private TarefaRepository tarefaRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private static final LocalDateTime ANTES_DO_ARQUIVAMENTO = LocalDateTime.of(1990, 1, 1, 0, 0);
+	private static final LocalDateTime LIMITE_ARQUIVAMENTO = LocalDateTime.of(1990, 1, 2, 0, 0);
+
+	@Test
+	void listagemUsaUmaConsultaIndependenteDaQuantidadeDeResponsaveis() {
+		assertEquals(1, contarConsultas(() -> lerResponsaveis(tarefaService.obterTodasTarefas()), 2, Status.PENDENTE));
+		assertEquals(1, contarConsultas(() -> lerResponsaveis(tarefaService.obterTodasTarefas()), 20, Status.PENDENTE));
+	}
+
+	@Test
+	void listagemPorStatusUsaUmaConsulta() {
+		assertEquals(1, contarConsultas(() -> lerResponsaveis(tarefaService.listaTarefasPorStatus(Status.PENDENTE)), 2, Status.PENDENTE));
+		assertEquals(1, contarConsultas(() -> lerResponsaveis(tarefaService.listaTarefasPorStatus(Status.PENDENTE)), 20, Status.PENDENTE));
+	}
+
+	// Metade das concluídas vai para o arquivo: uma consulta em tarefa e uma em tarefa_arquivo, as duas com o responsável.
+	@Test
+	void listagemDeConcluidasComArquivadasUsaDuasConsultas() {
+		assertEquals(2, contarConsultas(() -> lerResponsaveis(tarefaService.listaTarefasPorStatus(Status.CONCLUIDA)), 2, Status.CONCLUIDA));
+		assertEquals(2, contarConsultas(() -> lerResponsaveis(tarefaService.listaTarefasPorStatus(Status.CONCLUIDA)), 20, Status.CONCLUIDA));
+	}
+
+	@Test
+	void tarefaArquivadaContinuaAcessivelPorIdEPorStatus() throws Exception {
+		Usuario usuario = Usuario.builder()
+				.nomeUsuario("arquivo")
+				.email(UUID.randomUUID() + "@teste.com")
+				.senha("senha")
+				.build();
+		entityManager.persist(usuario);
+		Tarefa tarefa = new Tarefa();
+		tarefa.setTitulo("concluida antiga");
+		tarefa.setStatus(Status.CONCLUIDA);
+		tarefa.setDataCriacao(ANTES_DO_ARQUIVAMENTO);
+		tarefa.setEmailCriador(usuario.getEmail());
+		tarefa.setUsuario(usuario);
+		entityManager.persist(tarefa);
+		entityManager.flush();
+		entityManager.clear();
+
+		assertEquals(1, tarefaRepository.arquivarConcluidas(LIMITE_ARQUIVAMENTO, 10));
+		entityManager.clear();
+
+		assertFalse(tarefaRepository.existsById(tarefa.getId()));
+		Tarefa arquivada = tarefaService.obterTarefaPorId(tarefa.getId()).orElseThrow();
+		assertEquals("concluida antiga", arquivada.getTitulo());
+		assertEquals(usuario.getEmail(), arquivada.getUsuario().getEmail());
+		assertEquals(tarefa.getVersao(), tarefaService.obterVersaoTarefa(tarefa.getId()).orElseThrow());
+		assertTrue(tarefaService.listaTarefasPorStatus(Status.CONCLUIDA).stream()
+				.anyMatch(concluida -> concluida.getId().equals(tarefa.getId())));
+		assertTrue(tarefaService.listarTarefasArquivadas(null, null).getTarefas().stream()
+				.anyMatch(listada -> listada.getId().equals(tarefa.getId())));
+	}
+
+	// Acessa o responsável de cada tarefa como o Jackson faria ao serializar a resposta.
+	private void lerResponsaveis(List<Tarefa> tarefas) {
+		tarefas.forEach(tarefa -> tarefa.getUsuario().getNomeUsuario());
+	}
+
+	private long contarConsultas(Runnable consulta, int quantidadeResponsaveis, Status status) {
+		for (int i = 0; i < quantidadeResponsaveis; i++) {
+			Usuario usuario = Usuario.builder()
+					.nomeUsuario("usuario" + i)
+					.email(UUID.randomUUID() + "@teste.com")
+					.senha("senha")
+					.build();
+			entityManager.persist(usuario);
+
+			Tarefa tarefa = new Tarefa();
+			tarefa.setTitulo("tarefa" + i);
+			tarefa.setStatus(status);
+			tarefa.setDataCriacao(i % 2 == 0 ? ANTES_DO_ARQUIVAMENTO : LocalDateTime.now());
+			tarefa.setEmailCriador(usuario.getEmail());
+			tarefa.setUsuario(usuario);
+			entityManager.persist(tarefa);
+		}
+		entityManager.flush();
+		if (status == Status.CONCLUIDA) {
+			tarefaRepository.arquivarConcluidas(LIMITE_ARQUIVAMENTO, quantidadeResponsaveis);
+		}
+		entityManager.clear();
+
+		Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		estatisticas.clear();
+		consulta.run();
+		return estatisticas.getPrepareStatementCount();
+	}
+
+}
@@ -0,0 +1,144 @@
+package com.app.tarefaApi.Service.Impl;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Entity.Usuario;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Domain.Repository.UsuarioRepository;
+import com.app.tarefaApi.Rest.DTO.ResultadoOperacaoLoteDTO;
+import com.app.tarefaApi.Service.Resumo.ContadoresTarefa;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sem @Transactional: as operações em lote são confirmadas como numa requisição, e os dados são removidos ao final.
+@SpringBootTest
+class TarefaLoteTests {
+	private static final long ID_INEXISTENTE = Long.MAX_VALUE;
+
+	@Autowired
+	private TarefaServiceImpl tarefaService;
+
+	@Autowired
+	private TarefaRepository tarefaRepository;
+
+	@Autowired
+	private UsuarioRepository usuarioRepository;
+
+	@Autowired
+	private ContadoresTarefa contadoresTarefa;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Usuario dono;
+	private Usuario outro;
+	private Tarefa primeira;
+	private Tarefa segunda;
+	private Tarefa alheia;
+
+	@BeforeEach
+	void criarTarefas() {
+		dono = criarUsuario("dono");
+		outro = criarUsuario("outro");
+		primeira = criarTarefa(dono, "primeira");
+		segunda = criarTarefa(dono, "segunda");
+		alheia = criarTarefa(outro, "alheia");
+	}
+
+	@AfterEach
+	void removerTarefas() {
+		SecurityContextHolder.clearContext();
+		List<Long> ids = List.of(primeira.getId(), segunda.getId(), alheia.getId());
+		for (Long id : ids) {
+			jdbcTemplate.update("delete from historico_tarefa where id_tarefa = ?", id);
+			jdbcTemplate.update("delete from tarefa where id = ?", id);
+		}
+		usuarioRepository.deleteAll(List.of(dono, outro));
+	}
+
+	@Test
+	void atualizacaoEmLoteAfetaSoAsTarefasDoCriador() {
+		ResultadoOperacaoLoteDTO resultado = tarefaService.atualizarStatusEmLote(
+				List.of(primeira.getId(), alheia.getId(), segunda.getId(), ID_INEXISTENTE, primeira.getId()),
+				Status.CONCLUIDA, dono.getEmail());
+
+		assertEquals(List.of(primeira.getId(), segunda.getId()), resultado.getAfetados());
+		assertEquals(List.of(alheia.getId(), ID_INEXISTENTE), resultado.getRejeitados());
+
+		Tarefa atualizada = tarefaRepository.findById(primeira.getId()).orElseThrow();
+		assertEquals(Status.CONCLUIDA, atualizada.getStatus());
+		assertEquals(primeira.getVersao() + 1, atualizada.getVersao());
+		assertEquals(Status.CONCLUIDA, tarefaRepository.findById(segunda.getId()).orElseThrow().getStatus());
+
+		// A tarefa de outro criador é filtrada no WHERE e fica como estava.
+		Tarefa intocada = tarefaRepository.findById(alheia.getId()).orElseThrow();
+		assertEquals(Status.PENDENTE, intocada.getStatus());
+		assertEquals(alheia.getVersao(), intocada.getVersao());
+	}
+
+	@Test
+	void exclusaoEmLoteAfetaSoAsTarefasDoCriador() {
+		autenticar(dono);
+
+		ResultadoOperacaoLoteDTO resultado = tarefaService.excluirEmLote(
+				List.of(alheia.getId(), primeira.getId(), ID_INEXISTENTE));
+
+		assertEquals(List.of(primeira.getId()), resultado.getAfetados());
+		assertEquals(List.of(alheia.getId(), ID_INEXISTENTE), resultado.getRejeitados());
+		assertFalse(tarefaRepository.existsById(primeira.getId()));
+		assertTrue(tarefaRepository.existsById(segunda.getId()));
+		assertTrue(tarefaRepository.existsById(alheia.getId()));
+	}
+
+	// Os contadores saem do status anterior devolvido pelo RETURNING do UPDATE em lote.
+	@Test
+	void atualizacaoEmLoteInformaStatusAnteriorAosContadores() {
+		contadoresTarefa.reconciliar();
+		assertEquals(2L, contadoresTarefa.obterResumo(dono.getId()).getPorStatus().get(Status.PENDENTE));
+
+		tarefaService.atualizarStatusEmLote(List.of(primeira.getId(), segunda.getId()), Status.CONCLUIDA, dono.getEmail());
+
+		Map<Status, Long> porStatus = contadoresTarefa.obterResumo(dono.getId()).getPorStatus();
+		assertEquals(0L, porStatus.get(Status.PENDENTE));
+		assertEquals(2L, porStatus.get(Status.CONCLUIDA));
+	}
+
+	private void autenticar(Usuario usuario) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(usuario.getEmail(), null, List.of()));
+	}
+
+	private Usuario criarUsuario(String nome) {
+		return usuarioRepository.save(Usuario.builder()
+				.nomeUsuario(nome)
+				.email(UUID.randomUUID() + "@teste.com")
+				.senha("senha")
+				.build());
+	}
+
+	private Tarefa criarTarefa(Usuario usuario, String titulo) {
+		Tarefa tarefa = new Tarefa();
+		tarefa.setTitulo(titulo);
+		tarefa.setStatus(Status.PENDENTE);
+		tarefa.setDataCriacao(LocalDateTime.now());
+		tarefa.setEmailCriador(usuario.getEmail());
+		tarefa.setUsuario(usuario);
+		return tarefaRepository.save(tarefa);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.app.tarefaApi.Service.Resumo;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Domain.Enums.TipoEventoTarefa;
+import com.app.tarefaApi.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.Rest.DTO.EventoTarefaDTO;
+import com.app.tarefaApi.Rest.DTO.ResumoTarefasDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContadoresTarefaTests {
+	private static final long ID_USUARIO = 7L;
+
+	// O evento chega enquanto o GROUP BY roda: a consulta não o vê, e a contagem nova precisa recebê-lo.
+	@Test
+	void eventoDuranteAReconciliacaoNaoSePerde() {
+		ContadoresTarefa contadores = new ContadoresTarefa();
+		TarefaRepository tarefaRepository = Mockito.mock(TarefaRepository.class);
+		ReflectionTestUtils.setField(contadores, "tarefaRepository", tarefaRepository);
+		Mockito.when(tarefaRepository.contarPorUsuarioEStatus()).thenAnswer(invocacao -> {
+			contadores.aplicar(new EventoTarefaDTO(TipoEventoTarefa.ATUALIZADA, 1L, ID_USUARIO,
+					Status.CONCLUIDA, Status.PENDENTE, null));
+			return List.<Object[]>of(new Object[]{ID_USUARIO, "PENDENTE", 2L});
+		});
+
+		contadores.reconciliar();
+
+		ResumoTarefasDTO resumo = contadores.obterResumo(ID_USUARIO);
+		assertEquals(1L, resumo.getPorStatus().get(Status.PENDENTE));
+		assertEquals(1L, resumo.getPorStatus().get(Status.CONCLUIDA));
+		ResumoTarefasDTO global = contadores.obterResumo(null);
+		assertEquals(2L, global.getTotal());
+		assertTrue(global.getPorUsuario().isEmpty());
+	}
+}
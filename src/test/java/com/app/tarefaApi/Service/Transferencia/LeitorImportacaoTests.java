@@ -0,0 +1,62 @@
+package com.app.tarefaApi.Service.Transferencia;
+
+import com.app.tarefaApi.Domain.Enums.FormatoTransferencia;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LeitorImportacaoTests {
+
+	@Test
+	void csvComAspasEQuebraDeLinhaInformaALinhaDeCadaRegistro() throws IOException {
+		String csv = "id,titulo,descricao,status,idUsuario\r\n"
+				+ "1,\"a, b\",\"duas\nlinhas \"\"x\"\"\",PENDENTE,7\r\n"
+				+ "2,,sem titulo,PENDENTE,7\r\n"
+				+ "\r\n"
+				+ "3,c,,CONCLUIDA,abc";
+		List<LeitorImportacao.Registro> registros = ler(FormatoTransferencia.CSV, csv);
+
+		assertEquals(3, registros.size());
+		assertEquals(2, registros.get(0).getLinha());
+		assertEquals("a, b", registros.get(0).getTarefa().getTitulo());
+		assertEquals("duas\nlinhas \"x\"", registros.get(0).getTarefa().getDescricao());
+		assertEquals(Status.PENDENTE, registros.get(0).getTarefa().getStatus());
+		assertEquals(4, registros.get(1).getLinha());
+		assertEquals("Título obrigatório.", registros.get(1).getErro());
+		assertEquals(6, registros.get(2).getLinha());
+		assertEquals("idUsuario inválido: abc.", registros.get(2).getErro());
+	}
+
+	@Test
+	void ndjsonAceitaOFormatoDaExportacao() throws IOException {
+		String ndjson = "{\"titulo\":\"t\",\"status\":\"EM_ANDAMENTO\",\"usuario\":{\"id\":5},\"dataCriacao\":\"2024-01-02T03:04:05\"}\n"
+				+ "{quebrado\n";
+		List<LeitorImportacao.Registro> registros = ler(FormatoTransferencia.NDJSON, ndjson);
+
+		assertEquals(2, registros.size());
+		assertNull(registros.get(0).getErro());
+		assertEquals(5L, registros.get(0).getTarefa().getIdUsuario());
+		assertEquals("2024-01-02T03:04:05", registros.get(0).getTarefa().getDataCriacao().toString());
+		assertEquals(2, registros.get(1).getLinha());
+		assertEquals("JSON inválido.", registros.get(1).getErro());
+	}
+
+	private List<LeitorImportacao.Registro> ler(FormatoTransferencia formato, String conteudo) throws IOException {
+		LeitorImportacao leitor = new LeitorImportacao(formato, new StringReader(conteudo), new ObjectMapper().findAndRegisterModules());
+		List<LeitorImportacao.Registro> registros = new ArrayList<>();
+		LeitorImportacao.Registro registro;
+		while ((registro = leitor.proximo()) != null) {
+			registros.add(registro);
+		}
+		return registros;
+	}
+
+}
@@ -0,0 +1,45 @@
+-- Massa de dados para medir a busca textual (e as demais listagens) em volume.
+-- Uso, num banco já migrado pelo Flyway:
+--   psql -d tarefas -v quantidade=5000000 -f src/test/resources/dataset/gerar_tarefas.sql
+-- Sem -v quantidade são geradas 5 milhões de tarefas, distribuídas entre 1000 usuários
+-- (os usuários do dataset não têm senha válida e não servem para login).
+--
+-- Depois, conferir o plano e o tempo da busca (deve usar idx_tarefa_busca):
+--   explain analyze select t.id from tarefa t, to_tsquery('pt_sem_acento', 'relatorio:* & mensal:*') q
+--   where t.busca @@ q order by ts_rank(t.busca, q) desc, t.id limit 51;
+
+\if :{?quantidade}
+\else
+    \set quantidade 5000000
+\endif
+
+insert into usuario (nome_usuario, senha, email)
+select 'Usuário ' || n, 'dataset', 'usuario' || n || '@dataset.local'
+from generate_series(1, 1000) n
+on conflict (email) do nothing;
+
+-- Os ids seguem a sequence (incremento 50) para não colidir com os blocos reservados pelo Hibernate.
+insert into tarefa (id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao)
+select nextval('tarefa_id_seq'),
+       p.w[1 + (n * 7) % 50] || ' ' || p.w[1 + (n * 13 + 1) % 50] || ' ' || p.w[1 + (n * 31 + 2) % 50],
+       p.w[1 + (n * 3) % 50] || ' ' || p.w[1 + (n * 11 + 5) % 50] || ' ' || p.w[1 + (n * 17 + 9) % 50] || ' ' ||
+       p.w[1 + (n * 19 + 3) % 50] || ' ' || p.w[1 + (n * 23 + 7) % 50] || ' ' || p.w[1 + (n * 29 + 4) % 50],
+       (array['PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDA'])[1 + n % 3],
+       'Usuário ' || (1 + n % 1000),
+       'usuario' || (1 + n % 1000) || '@dataset.local',
+       now() - (n % 525600) * interval '1 minute',
+       u.ids[1 + (n * 7) % array_length(u.ids, 1)],
+       0
+from generate_series(1, :quantidade) n,
+     (select array_agg(id order by id) ids from usuario where email like '%@dataset.local') u,
+     (select array[
+         'relatório', 'mensal', 'reunião', 'orçamento', 'revisão', 'código', 'migração', 'cliente',
+         'integração', 'publicação', 'análise', 'correção', 'atualização', 'configuração', 'contrato',
+         'apresentação', 'planejamento', 'documentação', 'implantação', 'manutenção', 'pagamento',
+         'fatura', 'entrega', 'projeto', 'servidor', 'banco', 'dados', 'segurança', 'auditoria',
+         'treinamento', 'equipe', 'fornecedor', 'estoque', 'pedido', 'cadastro', 'relação', 'métrica',
+         'desempenho', 'teste', 'homologação', 'produção', 'backup', 'licença', 'suporte', 'chamado',
+         'ação', 'avaliação', 'preço', 'previsão', 'indicador'
+     ] w) p;
+
+analyze tarefa;
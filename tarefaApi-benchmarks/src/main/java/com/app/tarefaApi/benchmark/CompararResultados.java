@@ -0,0 +1,58 @@
+package com.app.tarefaApi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara dois resultados JSON do JMH (antes e depois) e mostra a variação de cada benchmark.
+ * Termina com código 1 se algum ficou mais lento que o limite (-Dbenchmark.limite-regressao, padrão 10%).
+ */
+public class CompararResultados {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CompararResultados <antes.json> <depois.json>");
+            System.exit(2);
+        }
+        double limite = Double.parseDouble(System.getProperty("benchmark.limite-regressao", "10"));
+        Map<String, Double> antes = lerScores(new File(args[0]));
+        Map<String, Double> depois = lerScores(new File(args[1]));
+
+        boolean regressao = false;
+        for (Map.Entry<String, Double> entrada : depois.entrySet()) {
+            Double anterior = antes.get(entrada.getKey());
+            if (anterior == null || anterior == 0) {
+                System.out.printf("%-90s %12.3f  (novo)%n", entrada.getKey(), entrada.getValue());
+                continue;
+            }
+            // Todos os benchmarks medem tempo médio: variação positiva significa mais lento.
+            double variacao = (entrada.getValue() - anterior) / anterior * 100;
+            boolean piorou = variacao > limite;
+            regressao |= piorou;
+            System.out.printf("%-90s %12.3f -> %12.3f  %+7.1f%%%s%n", entrada.getKey(), anterior,
+                    entrada.getValue(), variacao, piorou ? "  REGRESSAO" : "");
+        }
+        if (regressao) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Double> lerScores(File arquivo) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode resultado : new ObjectMapper().readTree(arquivo)) {
+            StringBuilder nome = new StringBuilder(resultado.get("benchmark").asText());
+            JsonNode parametros = resultado.get("params");
+            if (parametros != null) {
+                parametros.fields().forEachRemaining(parametro ->
+                        nome.append(' ').append(parametro.getKey()).append('=').append(parametro.getValue().asText()));
+            }
+            scores.put(nome.toString(), resultado.get("primaryMetric").get("score").asDouble());
+        }
+        return scores;
+    }
+}
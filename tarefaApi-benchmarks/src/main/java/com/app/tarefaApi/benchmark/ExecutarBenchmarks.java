@@ -0,0 +1,34 @@
+package com.app.tarefaApi.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Executa os benchmarks gravando o resultado em JSON, por padrão em jmh-resultados/&lt;commit&gt;.json
+ * (commit informado em -Dbenchmark.commit). Aceita as mesmas opções de linha de comando do JMH,
+ * por exemplo um filtro de benchmarks ou -rff para outro arquivo.
+ */
+public class ExecutarBenchmarks {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions linhaComando = new CommandLineOptions(args);
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaComando);
+
+        if (!linhaComando.getResultFormat().hasValue()) {
+            opcoes.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linhaComando.getResult().hasValue()) {
+            File arquivo = new File("jmh-resultados", System.getProperty("benchmark.commit", "local") + ".json");
+            arquivo.getParentFile().mkdirs();
+            opcoes.result(arquivo.getPath());
+        }
+        new Runner(opcoes.build()).run();
+    }
+}
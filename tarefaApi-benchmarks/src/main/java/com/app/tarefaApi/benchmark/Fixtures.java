@@ -0,0 +1,75 @@
+package com.app.tarefaApi.benchmark;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Domain.Entity.Usuario;
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.app.tarefaApi.Security.Jwt.JwtService;
+import com.app.tarefaApi.Security.Jwt.JwtTokenCache;
+import com.app.tarefaApi.Security.Jwt.PrincipalCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Monta os componentes da aplicação sem o contexto Spring, preenchendo os campos
+ * que normalmente viriam de @Value/@Autowired com os valores do application.properties.
+ */
+final class Fixtures {
+    static final String CHAVE_ASSINATURA = "Y2hhdmUtZGUtYmVuY2htYXJrLWRhLWFwaS1kZS10YXJlZmFz";
+    static final String EXPIRACAO_MINUTOS = "30";
+
+    private Fixtures() {
+    }
+
+    static JwtTokenCache tokenCache(boolean habilitado) {
+        JwtTokenCache tokenCache = new JwtTokenCache();
+        ReflectionTestUtils.setField(tokenCache, "habilitado", habilitado);
+        ReflectionTestUtils.setField(tokenCache, "tamanhoMaximo", 10000);
+        tokenCache.inicializar();
+        return tokenCache;
+    }
+
+    static JwtService jwtService(JwtTokenCache tokenCache) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "expiracao", EXPIRACAO_MINUTOS);
+        ReflectionTestUtils.setField(jwtService, "chaveAssinatura", CHAVE_ASSINATURA);
+        ReflectionTestUtils.setField(jwtService, "tokenCache", tokenCache);
+        return jwtService;
+    }
+
+    static PrincipalCache principalCache() {
+        PrincipalCache principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "habilitado", true);
+        ReflectionTestUtils.setField(principalCache, "ttlSegundos", 60L);
+        ReflectionTestUtils.setField(principalCache, "tamanhoMaximo", 10000);
+        ReflectionTestUtils.setField(principalCache, "expiracaoTokenMinutos", Long.parseLong(EXPIRACAO_MINUTOS));
+        return principalCache;
+    }
+
+    static List<Tarefa> tarefas(int quantidade) {
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setNomeUsuario("Usuário Benchmark");
+        usuario.setEmail("usuario@benchmark.local");
+        Status[] status = Status.values();
+        LocalDateTime agora = LocalDateTime.now();
+
+        List<Tarefa> tarefas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Tarefa tarefa = new Tarefa();
+            tarefa.setId((long) i + 1);
+            tarefa.setTitulo("Revisar relatório mensal " + i);
+            tarefa.setDescricao("Conferir os indicadores de desempenho e a previsão de orçamento do mês.");
+            tarefa.setStatus(status[i % status.length]);
+            tarefa.setCriador(usuario.getNomeUsuario());
+            tarefa.setEmailCriador(usuario.getEmail());
+            tarefa.setDataCriacao(agora.minusMinutes(i));
+            tarefa.setVersao(0L);
+            tarefa.setUsuario(usuario);
+            tarefas.add(tarefa);
+        }
+        return tarefas;
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.tarefaApi.benchmark;
+
+import com.app.tarefaApi.Security.Jwt.JwtAuthFilter;
+import com.app.tarefaApi.Security.Jwt.JwtService;
+import com.app.tarefaApi.Security.Jwt.UsuarioAutenticado;
+import com.app.tarefaApi.Service.Impl.UsuarioServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo do JwtAuthFilter por requisição: validação do token, obtenção do principal
+ * (pelas claims ou pelo UsuarioServiceImpl, aqui sem banco) e preenchimento do SecurityContext.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean principalPorClaims;
+
+    @Param({"true", "false"})
+    private boolean cacheToken;
+
+    private JwtAuthFilter filtro;
+    private MockHttpServletRequest requisicao;
+    private MockHttpServletResponse resposta;
+    private FilterChain cadeia;
+
+    @Setup
+    public void preparar() {
+        UsuarioAutenticado usuario = new UsuarioAutenticado(1L, "usuario@benchmark.local", "",
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+        JwtService jwtService = Fixtures.jwtService(Fixtures.tokenCache(cacheToken));
+        UsuarioServiceImpl usuarioService = new UsuarioServiceImpl(new BCryptPasswordEncoder()) {
+            @Override
+            public UserDetails loadUserByUsername(String email) {
+                return usuario;
+            }
+        };
+        filtro = new JwtAuthFilter(jwtService, usuarioService, Fixtures.principalCache(),
+                principalPorClaims, new SimpleMeterRegistry());
+
+        requisicao = new MockHttpServletRequest("GET", "/api/tarefas");
+        requisicao.addHeader("Authorization", "Bearer " + jwtService.gerarToken(usuario));
+        resposta = new MockHttpServletResponse();
+        cadeia = (request, response) -> { };
+    }
+
+    @Benchmark
+    public void filtrarRequisicao(Blackhole blackhole) throws ServletException, IOException {
+        filtro.doFilter(requisicao, resposta, cadeia);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.tarefaApi.benchmark;
+
+import com.app.tarefaApi.Security.Jwt.JwtService;
+import com.app.tarefaApi.Security.Jwt.JwtTokenCache;
+import com.app.tarefaApi.Security.Jwt.UsuarioAutenticado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração e validação de tokens, com e sem o cache de tokens já validados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheHabilitado;
+
+    private JwtService jwtService;
+    private UsuarioAutenticado usuario;
+    private String token;
+
+    @Setup
+    public void preparar() {
+        JwtTokenCache tokenCache = Fixtures.tokenCache(cacheHabilitado);
+        jwtService = Fixtures.jwtService(tokenCache);
+        usuario = new UsuarioAutenticado(1L, "usuario@benchmark.local", "",
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+        token = jwtService.gerarToken(usuario);
+    }
+
+    @Benchmark
+    public String gerarToken() {
+        return jwtService.gerarToken(usuario);
+    }
+
+    @Benchmark
+    public boolean tokenValido() {
+        return jwtService.tokenValido(token);
+    }
+
+    @Benchmark
+    public String obterLoginUsuario() {
+        return jwtService.obterLoginUsuario(token);
+    }
+}
@@ -0,0 +1,60 @@
+package com.app.tarefaApi.benchmark;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização JSON de uma tarefa e de listagens inteiras, com o ObjectMapper configurado
+ * como o do Spring MVC (Jackson2ObjectMapperBuilder).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoTarefaBenchmark {
+
+    @Param({"1000", "100000"})
+    private int quantidade;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter writerLista;
+    private Tarefa tarefa;
+    private List<Tarefa> tarefas;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writerLista = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Tarefa.class));
+        tarefas = Fixtures.tarefas(quantidade);
+        tarefa = tarefas.get(0);
+    }
+
+    @Benchmark
+    public byte[] serializarTarefa() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tarefa);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws JsonProcessingException {
+        return writerLista.writeValueAsBytes(tarefas);
+    }
+}
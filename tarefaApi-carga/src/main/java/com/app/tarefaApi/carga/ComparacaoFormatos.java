@@ -0,0 +1,160 @@
+package com.app.tarefaApi.carga;
+
+import com.app.tarefaApi.Domain.Entity.Tarefa;
+import com.app.tarefaApi.Rest.DTO.TarefasColunaresDTO;
+import com.app.tarefaApi.Service.TarefaService;
+import com.app.tarefaApi.TarefaApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compara os formatos de GET /api/tarefas (JSON, colunar, CBOR e Smile, com e sem gzip) sobre a mesma
+ * massa do teste de carga. Mede o tamanho e o tempo de serialização no processo, com os ObjectMapper da
+ * própria API, e depois o tamanho trafegado e a latência por HTTP.
+ * Execução: java -Dloader.main=com.app.tarefaApi.carga.ComparacaoFormatos -cp target/carga.jar
+ * org.springframework.boot.loader.PropertiesLauncher (aceita os mesmos -Dcarga.* do ExecutarCarga).
+ */
+public class ComparacaoFormatos {
+    private static final int AQUECIMENTO = Integer.getInteger("formatos.aquecimento", 5);
+    private static final int REPETICOES = Integer.getInteger("formatos.repeticoes", 15);
+    private static final Map<String, String> FORMATOS = new LinkedHashMap<>();
+
+    static {
+        FORMATOS.put("json", "application/json");
+        FORMATOS.put("colunar", TarefasColunaresDTO.MEDIA_TYPE_VALUE);
+        FORMATOS.put("cbor", "application/cbor");
+        FORMATOS.put("smile", "application/x-jackson-smile");
+    }
+
+    public static void main(String[] args) throws Exception {
+        ParametrosCarga parametros = new ParametrosCarga();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setLocaleConfig("encoding", "UTF8")
+                .setLocaleConfig("locale", "C")
+                .start()) {
+            System.setProperty("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+            System.setProperty("spring.datasource.username", "postgres");
+            System.setProperty("spring.datasource.password", "");
+            ConfigurableApplicationContext contexto = new SpringApplicationBuilder(TarefaApiApplication.class)
+                    .profiles("carga")
+                    .run(args);
+            try {
+                System.out.printf("Semeando %d usuários e %d tarefas...%n", parametros.getUsuarios(), parametros.getTarefas());
+                new SemeadorDados(contexto.getBean(JdbcTemplate.class),
+                        new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class)))
+                        .semear(parametros, contexto.getBean(PasswordEncoder.class).encode(parametros.getSenha()));
+
+                medirSerializacao(contexto);
+                int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+                medirHttp("http://localhost:" + porta, parametros);
+            } finally {
+                contexto.close();
+            }
+        }
+    }
+
+    private static void medirSerializacao(ConfigurableApplicationContext contexto) throws Exception {
+        List<Tarefa> tarefas = contexto.getBean(TarefaService.class).obterTodasTarefas();
+        ObjectMapper json = contexto.getBean(ObjectMapper.class);
+        ObjectMapper cbor = contexto.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+        ObjectMapper smile = contexto.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+        Map<String, Callable<byte[]>> serializacoes = new LinkedHashMap<>();
+        serializacoes.put("json", () -> json.writeValueAsBytes(tarefas));
+        // Inclui a montagem das colunas, feita a cada requisição.
+        serializacoes.put("colunar", () -> json.writeValueAsBytes(TarefasColunaresDTO.de(tarefas)));
+        serializacoes.put("cbor", () -> cbor.writeValueAsBytes(tarefas));
+        serializacoes.put("smile", () -> smile.writeValueAsBytes(tarefas));
+
+        System.out.printf("%nSerialização de %d tarefas (mediana de %d execuções)%n", tarefas.size(), REPETICOES);
+        System.out.printf("%-8s %12s %12s %12s %12s%n", "formato", "bytes", "ms", "bytes gzip", "ms gzip");
+        for (Map.Entry<String, Callable<byte[]>> serializacao : serializacoes.entrySet()) {
+            byte[] corpo = serializacao.getValue().call();
+            byte[] compactado = gzip(corpo);
+            double ms = mediana(serializacao.getValue());
+            double msGzip = mediana(() -> gzip(corpo));
+            System.out.printf("%-8s %12d %12.1f %12d %12.1f%n",
+                    serializacao.getKey(), corpo.length, ms, compactado.length, msGzip);
+        }
+    }
+
+    private static void medirHttp(String baseUrl, ParametrosCarga parametros) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        String corpoLogin = "{\"email\":\"" + SemeadorDados.email(1) + "\",\"senha\":\"" + parametros.getSenha() + "\"}";
+        HttpResponse<String> login = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpoLogin))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        String token = new ObjectMapper().readTree(login.body()).get("token").asText();
+
+        System.out.printf("%nGET /api/tarefas por HTTP (mediana de %d requisições)%n", REPETICOES);
+        System.out.printf("%-8s %-9s %12s %12s%n", "formato", "encoding", "bytes", "ms");
+        for (Map.Entry<String, String> formato : FORMATOS.entrySet()) {
+            for (String encoding : new String[]{"identity", "gzip"}) {
+                HttpRequest requisicao = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tarefas"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Accept", formato.getValue())
+                        .header("Accept-Encoding", encoding)
+                        .timeout(Duration.ofMinutes(2))
+                        .GET()
+                        .build();
+                // O HttpClient não descompacta: o tamanho é o que trafegou.
+                int[] bytes = new int[1];
+                double ms = mediana(() -> {
+                    HttpResponse<byte[]> resposta = httpClient.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+                    if (resposta.statusCode() != 200) {
+                        throw new IllegalStateException(formato.getKey() + " respondeu " + resposta.statusCode());
+                    }
+                    bytes[0] = resposta.body().length;
+                    return resposta.body();
+                });
+                System.out.printf("%-8s %-9s %12d %12.1f%n", formato.getKey(), encoding, bytes[0], ms);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] corpo) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(corpo.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida, 65536)) {
+            gzip.write(corpo);
+        }
+        return saida.toByteArray();
+    }
+
+    private static double mediana(Callable<?> medicao) throws Exception {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            medicao.call();
+        }
+        long[] tempos = new long[REPETICOES];
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            medicao.call();
+            tempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tempos);
+        return tempos[REPETICOES / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.app.tarefaApi.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências de um endpoint em microssegundos. A latência conta a partir do instante em que a
+ * requisição deveria ter saído (não de quando saiu), para não esconder fila do lado do cliente.
+ */
+public class EstatisticasEndpoint {
+    private static final long MAXIMO_REGISTRAVEL_US = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencias = new ConcurrentHistogram(MAXIMO_REGISTRAVEL_US, 3);
+    private final LongAdder erros = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+
+    public void registrar(long latenciaNanos, boolean sucesso) {
+        latencias.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latenciaNanos), MAXIMO_REGISTRAVEL_US));
+        if (!sucesso) {
+            erros.increment();
+        }
+    }
+
+    public void descartar() {
+        descartadas.increment();
+    }
+
+    public Map<String, Object> resumo(double segundosMedidos) {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        long requisicoes = latencias.getTotalCount();
+        resumo.put("requisicoes", requisicoes);
+        resumo.put("erros", erros.sum());
+        resumo.put("descartadas", descartadas.sum());
+        resumo.put("vazaoPorSegundo", arredondar(requisicoes / segundosMedidos));
+        resumo.put("p50Ms", percentilMs(50));
+        resumo.put("p99Ms", percentilMs(99));
+        resumo.put("p999Ms", percentilMs(99.9));
+        resumo.put("maximoMs", arredondar(latencias.getMaxValue() / 1000.0));
+        return resumo;
+    }
+
+    private double percentilMs(double percentil) {
+        return arredondar(latencias.getValueAtPercentile(percentil) / 1000.0);
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
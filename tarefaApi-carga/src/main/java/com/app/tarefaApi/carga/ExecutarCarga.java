@@ -0,0 +1,100 @@
+package com.app.tarefaApi.carga;
+
+import com.app.tarefaApi.TarefaApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Teste de carga completo em um processo: sobe um PostgreSQL embutido, inicia a API com o perfil
+ * "carga" apontando para ele, semeia usuários e tarefas, executa a carga mista e imprime vazão e
+ * percentis por endpoint.
+ */
+public class ExecutarCarga {
+
+    public static void main(String[] args) throws Exception {
+        ParametrosCarga parametros = new ParametrosCarga();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setLocaleConfig("encoding", "UTF8")
+                .setLocaleConfig("locale", "C")
+                .start()) {
+            // Propriedades de sistema têm precedência sobre o application.properties da API.
+            System.setProperty("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+            System.setProperty("spring.datasource.username", "postgres");
+            System.setProperty("spring.datasource.password", "");
+            ConfigurableApplicationContext contexto = new SpringApplicationBuilder(TarefaApiApplication.class)
+                    .profiles("carga")
+                    .run(args);
+            try {
+                System.out.printf("Semeando %d usuários e %d tarefas...%n", parametros.getUsuarios(), parametros.getTarefas());
+                SemeadorDados semeador = new SemeadorDados(contexto.getBean(JdbcTemplate.class),
+                        new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class)));
+                semeador.semear(parametros, contexto.getBean(PasswordEncoder.class).encode(parametros.getSenha()));
+
+                List<UsuarioAtivo> usuarios = new ArrayList<>();
+                for (int i = 1; i <= parametros.getUsuariosAtivos(); i++) {
+                    usuarios.add(new UsuarioAtivo(semeador.idUsuario(i), SemeadorDados.email(i), semeador.idsDoUsuario(i)));
+                }
+
+                int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+                GeradorCarga gerador = new GeradorCarga(parametros, "http://localhost:" + porta, usuarios);
+                gerador.autenticarUsuarios();
+                System.out.printf("Carga: %d req/s por %d s (+%d s de aquecimento)...%n",
+                        parametros.getRps(), parametros.getDuracaoSegundos(), parametros.getAquecimentoSegundos());
+                Map<Operacao, EstatisticasEndpoint> estatisticas = gerador.executar();
+
+                relatar(parametros, estatisticas);
+            } finally {
+                contexto.close();
+            }
+        }
+    }
+
+    private static void relatar(ParametrosCarga parametros, Map<Operacao, EstatisticasEndpoint> estatisticas) throws Exception {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-28s %10s %7s %11s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requisicoes", "erros", "descartadas", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        estatisticas.forEach((operacao, estatistica) -> {
+            Map<String, Object> resumo = estatistica.resumo(parametros.getDuracaoSegundos());
+            endpoints.put(operacao.getEndpoint(), resumo);
+            System.out.printf("%-28s %10d %7d %11d %9.1f %9.2f %9.2f %9.2f %9.2f%n", operacao.getEndpoint(),
+                    resumo.get("requisicoes"), resumo.get("erros"), resumo.get("descartadas"), resumo.get("vazaoPorSegundo"),
+                    resumo.get("p50Ms"), resumo.get("p99Ms"), resumo.get("p999Ms"), resumo.get("maximoMs"));
+        });
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        Map<String, Object> configuracao = new LinkedHashMap<>();
+        configuracao.put("usuarios", parametros.getUsuarios());
+        configuracao.put("tarefas", parametros.getTarefas());
+        configuracao.put("usuariosAtivos", parametros.getUsuariosAtivos());
+        configuracao.put("rps", parametros.getRps());
+        configuracao.put("duracaoSegundos", parametros.getDuracaoSegundos());
+        configuracao.put("semente", parametros.getSemente());
+        configuracao.put("status", parametros.getDistribuicaoStatus());
+        configuracao.put("mix", parametros.getMix());
+        relatorio.put("parametros", configuracao);
+        relatorio.put("endpoints", endpoints);
+
+        File arquivo = new File("carga-resultados",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        arquivo.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo, relatorio);
+        System.out.printf("%nRelatório gravado em %s%n", arquivo.getPath());
+    }
+}
@@ -0,0 +1,190 @@
+package com.app.tarefaApi.carga;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Carga em modelo aberto: as requisições saem na taxa alvo independentemente de quanto a API demora,
+ * como acontece com clientes reais. Acima de carga.maximo-em-voo pendentes a requisição é descartada
+ * e contada à parte, em vez de acumular memória indefinidamente.
+ */
+public class GeradorCarga {
+    private static final Status[] STATUS = Status.values();
+
+    private final ParametrosCarga parametros;
+    private final String baseUrl;
+    private final List<UsuarioAtivo> usuarios;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executorRespostas = Executors.newFixedThreadPool(4);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executorRespostas)
+            .build();
+    private final Map<Operacao, EstatisticasEndpoint> estatisticas = new EnumMap<>(Operacao.class);
+    private final Operacao[] roleta;
+    private final Random random;
+
+    public GeradorCarga(ParametrosCarga parametros, String baseUrl, List<UsuarioAtivo> usuarios) {
+        this.parametros = parametros;
+        this.baseUrl = baseUrl;
+        this.usuarios = usuarios;
+        this.random = new Random(parametros.getSemente());
+        List<Operacao> operacoes = new ArrayList<>();
+        parametros.getMix().forEach((operacao, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                operacoes.add(operacao);
+            }
+        });
+        this.roleta = operacoes.toArray(new Operacao[0]);
+        for (Operacao operacao : Operacao.values()) {
+            estatisticas.put(operacao, new EstatisticasEndpoint());
+        }
+    }
+
+    /**
+     * Obtém um token por usuário ativo antes de começar a medir.
+     */
+    public void autenticarUsuarios() throws Exception {
+        for (UsuarioAtivo usuario : usuarios) {
+            HttpResponse<String> resposta = httpClient.send(requisicaoLogin(usuario), HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 200) {
+                throw new IllegalStateException("Login do usuário " + usuario.getEmail() + " falhou: " + resposta.statusCode());
+            }
+            usuario.setToken(objectMapper.readTree(resposta.body()).get("token").asText());
+        }
+    }
+
+    public Map<Operacao, EstatisticasEndpoint> executar() throws InterruptedException {
+        Semaphore emVoo = new Semaphore(parametros.getMaximoEmVoo());
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / parametros.getRps();
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + TimeUnit.SECONDS.toNanos(parametros.getAquecimentoSegundos());
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(parametros.getDuracaoSegundos());
+
+        for (long previsto = inicio; previsto < fim; previsto += intervalo) {
+            long espera = previsto - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            Operacao operacao = roleta[random.nextInt(roleta.length)];
+            UsuarioAtivo usuario = usuarios.get(random.nextInt(usuarios.size()));
+            boolean medir = previsto >= inicioMedicao;
+            EstatisticasEndpoint estatisticasOperacao = estatisticas.get(operacao);
+
+            HttpRequest requisicao = montarRequisicao(operacao, usuario);
+            if (requisicao == null) {
+                continue;
+            }
+            if (!emVoo.tryAcquire()) {
+                if (medir) {
+                    estatisticasOperacao.descartar();
+                }
+                continue;
+            }
+            long previstoFinal = previsto;
+            CompletableFuture<HttpResponse<String>> resposta =
+                    httpClient.sendAsync(requisicao, HttpResponse.BodyHandlers.ofString());
+            resposta.whenComplete((corpo, erro) -> {
+                emVoo.release();
+                boolean sucesso = erro == null && corpo.statusCode() / 100 == 2;
+                if (medir) {
+                    estatisticasOperacao.registrar(System.nanoTime() - previstoFinal, sucesso);
+                }
+                if (sucesso && operacao == Operacao.CRIAR) {
+                    guardarTarefaCriada(usuario, corpo.body());
+                }
+            });
+        }
+
+        // Aguarda as requisições pendentes antes de fechar o relatório.
+        emVoo.tryAcquire(parametros.getMaximoEmVoo(), 60, TimeUnit.SECONDS);
+        executorRespostas.shutdown();
+        return estatisticas;
+    }
+
+    private HttpRequest montarRequisicao(Operacao operacao, UsuarioAtivo usuario) {
+        switch (operacao) {
+            case LOGIN:
+                return requisicaoLogin(usuario);
+            case CRIAR:
+                return autenticada(usuario, "/api/tarefas")
+                        .POST(HttpRequest.BodyPublishers.ofString(corpoTarefa(usuario)))
+                        .build();
+            case LISTAR:
+                return autenticada(usuario, "/api/tarefas/pagina?tamanho=50").GET().build();
+            case OBTER: {
+                Long id = usuario.sortearTarefa(random);
+                return id == null ? null : autenticada(usuario, "/api/tarefas/" + id).GET().build();
+            }
+            case ATUALIZAR: {
+                Long id = usuario.sortearTarefa(random);
+                return id == null ? null : autenticada(usuario, "/api/tarefas/" + id)
+                        .PUT(HttpRequest.BodyPublishers.ofString(corpoTarefa(usuario)))
+                        .build();
+            }
+            case STATUS: {
+                Long id = usuario.sortearTarefa(random);
+                String corpo = "{\"status\":\"" + STATUS[random.nextInt(STATUS.length)].name() + "\"}";
+                return id == null ? null : autenticada(usuario, "/api/tarefas/" + id + "/status")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString(corpo))
+                        .build();
+            }
+            case EXCLUIR: {
+                Long id = usuario.retirarTarefa(random);
+                return id == null ? null : autenticada(usuario, "/api/tarefas/" + id).DELETE().build();
+            }
+            default:
+                throw new IllegalArgumentException(operacao.name());
+        }
+    }
+
+    private HttpRequest requisicaoLogin(UsuarioAtivo usuario) {
+        String corpo = "{\"email\":\"" + usuario.getEmail() + "\",\"senha\":\"" + parametros.getSenha() + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private HttpRequest.Builder autenticada(UsuarioAtivo usuario, String caminho) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + caminho))
+                .header("Authorization", "Bearer " + usuario.getToken())
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private String corpoTarefa(UsuarioAtivo usuario) {
+        Status status = STATUS[random.nextInt(STATUS.length)];
+        return "{\"idUsuario\":" + usuario.getId() + ",\"titulo\":\"Tarefa criada na carga\"," +
+                "\"descricao\":\"Acompanhar o andamento da entrega\",\"status\":\"" + status.name() + "\"}";
+    }
+
+    private void guardarTarefaCriada(UsuarioAtivo usuario, String corpo) {
+        try {
+            JsonNode tarefa = objectMapper.readTree(corpo);
+            usuario.adicionarTarefa(tarefa.get("id").asLong());
+        } catch (Exception e) {
+            // Resposta sem id: a tarefa só não entra no sorteio das operações seguintes.
+        }
+    }
+}
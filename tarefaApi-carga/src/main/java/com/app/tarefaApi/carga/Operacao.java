@@ -0,0 +1,21 @@
+package com.app.tarefaApi.carga;
+
+public enum Operacao {
+    LOGIN("POST /login"),
+    CRIAR("POST /api/tarefas"),
+    LISTAR("GET /api/tarefas/pagina"),
+    OBTER("GET /api/tarefas/{id}"),
+    ATUALIZAR("PUT /api/tarefas/{id}"),
+    STATUS("PATCH /api/tarefas/{id}/status"),
+    EXCLUIR("DELETE /api/tarefas/{id}");
+
+    private final String endpoint;
+
+    Operacao(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,88 @@
+package com.app.tarefaApi.carga;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de propriedades de sistema (-Dcarga.*).
+ * Com os mesmos parâmetros e a mesma semente a massa de dados e a sequência de operações se repetem.
+ */
+public class ParametrosCarga {
+    private final int usuarios = inteiro("carga.usuarios", 200);
+    private final int tarefas = inteiro("carga.tarefas", 100_000);
+    private final int usuariosAtivos = inteiro("carga.usuarios-ativos", 50);
+    private final int rps = inteiro("carga.rps", 200);
+    private final int duracaoSegundos = inteiro("carga.duracao-segundos", 60);
+    private final int aquecimentoSegundos = inteiro("carga.aquecimento-segundos", 10);
+    private final int maximoEmVoo = inteiro("carga.maximo-em-voo", 2000);
+    private final long semente = Long.parseLong(System.getProperty("carga.semente", "42"));
+    private final String senha = System.getProperty("carga.senha", "senha-carga");
+    // Distribuição enviesada: a maior parte das tarefas já está concluída, como numa base real.
+    private final Map<String, Integer> distribuicaoStatus =
+            pesos(System.getProperty("carga.status", "PENDENTE:15,EM_ANDAMENTO:25,CONCLUIDA:60"));
+    private final Map<Operacao, Integer> mix = pesosOperacoes(
+            System.getProperty("carga.mix", "login:5,criar:15,listar:15,obter:40,atualizar:15,excluir:10"));
+
+    public int getUsuarios() {
+        return usuarios;
+    }
+
+    public int getTarefas() {
+        return tarefas;
+    }
+
+    public int getUsuariosAtivos() {
+        return Math.min(usuariosAtivos, usuarios);
+    }
+
+    public int getRps() {
+        return rps;
+    }
+
+    public int getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    public int getAquecimentoSegundos() {
+        return aquecimentoSegundos;
+    }
+
+    public int getMaximoEmVoo() {
+        return maximoEmVoo;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public String getSenha() {
+        return senha;
+    }
+
+    public Map<String, Integer> getDistribuicaoStatus() {
+        return distribuicaoStatus;
+    }
+
+    public Map<Operacao, Integer> getMix() {
+        return mix;
+    }
+
+    private static int inteiro(String propriedade, int padrao) {
+        return Integer.parseInt(System.getProperty(propriedade, String.valueOf(padrao)));
+    }
+
+    private static Map<String, Integer> pesos(String valor) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        for (String item : valor.split(",")) {
+            String[] partes = item.trim().split(":");
+            pesos.put(partes[0].trim(), Integer.parseInt(partes[1].trim()));
+        }
+        return pesos;
+    }
+
+    private static Map<Operacao, Integer> pesosOperacoes(String valor) {
+        Map<Operacao, Integer> pesos = new LinkedHashMap<>();
+        pesos(valor).forEach((nome, peso) -> pesos.put(Operacao.valueOf(nome.toUpperCase()), peso));
+        return pesos;
+    }
+}
@@ -0,0 +1,74 @@
+package com.app.tarefaApi.carga;
+
+import com.app.tarefaApi.Domain.Enums.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava a massa de dados direto no banco com INSERT ... SELECT generate_series, sem passar pela API.
+ * A escolha de responsável e de status é uma função do número da tarefa, então a massa é sempre a mesma.
+ * Tudo roda em transação explícita: no perfil "performance" o pool entrega conexões sem autocommit.
+ */
+public class SemeadorDados {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SemeadorDados(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void semear(ParametrosCarga parametros, String hashSenha) {
+        transactionTemplate.executeWithoutResult(status -> inserir(parametros, hashSenha));
+    }
+
+    private void inserir(ParametrosCarga parametros, String hashSenha) {
+        jdbcTemplate.update("insert into usuario (nome_usuario, senha, email) " +
+                        "select 'Usuário ' || n, ?, 'usuario' || n || '@carga.local' from generate_series(1, ?) n",
+                hashSenha, parametros.getUsuarios());
+
+        jdbcTemplate.update("insert into tarefa (id, titulo, descricao, status, criador, email_criador, data_criacao, usuario_id, versao) " +
+                        "select nextval('tarefa_id_seq'), 'Tarefa de carga ' || n, " +
+                        "'Revisar relatório e atualizar o andamento da tarefa ' || n, " +
+                        expressaoStatus(parametros.getDistribuicaoStatus()) + ", " +
+                        "'Usuário ' || u, 'usuario' || u || '@carga.local', " +
+                        "now() - (n % 525600) * interval '1 minute', " +
+                        "(select id from usuario where email = 'usuario' || u || '@carga.local'), 0 " +
+                        "from (select n, 1 + (n * 7919) % ? as u from generate_series(1, ?) n) s",
+                parametros.getUsuarios(), parametros.getTarefas());
+
+        jdbcTemplate.execute("analyze usuario");
+        jdbcTemplate.execute("analyze tarefa");
+    }
+
+    public List<Long> idsDoUsuario(int usuario) {
+        return transactionTemplate.execute(status -> new ArrayList<>(jdbcTemplate.queryForList(
+                "select id from tarefa where email_criador = ?", Long.class, email(usuario))));
+    }
+
+    public long idUsuario(int usuario) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("select id from usuario where email = ?", Long.class, email(usuario)));
+    }
+
+    public static String email(int usuario) {
+        return "usuario" + usuario + "@carga.local";
+    }
+
+    // Espalha n em 0..99 (hash multiplicativo) e compara com os pesos acumulados.
+    private static String expressaoStatus(Map<String, Integer> distribuicao) {
+        int total = distribuicao.values().stream().mapToInt(Integer::intValue).sum();
+        StringBuilder sql = new StringBuilder("case");
+        int acumulado = 0;
+        for (Map.Entry<String, Integer> status : distribuicao.entrySet()) {
+            acumulado += status.getValue();
+            sql.append(" when (n::bigint * 2654435761) % 100 < ").append(acumulado * 100 / total)
+                    .append(" then '").append(Status.valueOf(status.getKey()).name()).append("'");
+        }
+        return sql.append(" else 'CONCLUIDA' end").toString();
+    }
+}
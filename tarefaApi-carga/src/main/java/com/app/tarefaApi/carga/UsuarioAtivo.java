@@ -0,0 +1,56 @@
+package com.app.tarefaApi.carga;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Usuário que participa da carga, com seu token e as tarefas que ele criou (as únicas que pode alterar).
+ */
+public class UsuarioAtivo {
+    private final long id;
+    private final String email;
+    private final List<Long> tarefas;
+    private volatile String token;
+
+    public UsuarioAtivo(long id, String email, List<Long> tarefas) {
+        this.id = id;
+        this.email = email;
+        this.tarefas = tarefas;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public synchronized Long sortearTarefa(Random random) {
+        return tarefas.isEmpty() ? null : tarefas.get(random.nextInt(tarefas.size()));
+    }
+
+    // Remove trocando pelo último elemento para não deslocar a lista.
+    public synchronized Long retirarTarefa(Random random) {
+        if (tarefas.isEmpty()) {
+            return null;
+        }
+        int indice = random.nextInt(tarefas.size());
+        Long id = tarefas.get(indice);
+        tarefas.set(indice, tarefas.get(tarefas.size() - 1));
+        tarefas.remove(tarefas.size() - 1);
+        return id;
+    }
+
+    public synchronized void adicionarTarefa(long idTarefa) {
+        tarefas.add(idTarefa);
+    }
+}
@@ -0,0 +1,44 @@
+package com.app.tarefaApi.reativo.Domain.Entity;
+
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mesma tabela da API servlet. O responsável é referenciado só pelo id (R2DBC não carrega relacionamentos).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("tarefa")
+public class Tarefa {
+    @Id
+    private Long id;
+
+    private String titulo;
+
+    private String descricao;
+
+    private Status status;
+
+    private String criador;
+
+    @Column("email_criador")
+    private String emailCriador;
+
+    @Column("data_criacao")
+    private LocalDateTime dataCriacao;
+
+    @Version
+    private Long versao;
+
+    @Column("usuario_id")
+    private Long idUsuario;
+}
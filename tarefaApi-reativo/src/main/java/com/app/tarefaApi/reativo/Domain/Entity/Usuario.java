@@ -0,0 +1,22 @@
+package com.app.tarefaApi.reativo.Domain.Entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("usuario")
+public class Usuario {
+    @Id
+    private Long id;
+
+    @Column("nome_usuario")
+    private String nomeUsuario;
+
+    private String email;
+}
@@ -0,0 +1,18 @@
+package com.app.tarefaApi.reativo.Domain.Enums;
+
+
+public enum Status {
+    PENDENTE("Pendente"),
+    EM_ANDAMENTO("Em Andamento"),
+    CONCLUIDA("Concluída");
+
+    private final String displayName;
+
+    Status(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,20 @@
+package com.app.tarefaApi.reativo.Domain.Repository;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Tarefa;
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface TarefaRepository extends ReactiveCrudRepository<Tarefa, Long> {
+    Flux<Tarefa> findAllByOrderByIdAsc();
+
+    Flux<Tarefa> findTarefaByStatusOrderByIdAsc(Status status);
+
+    // Mesma sequence usada pelo gerador da API servlet; cada valor é entregue a um único chamador.
+    @Query("select nextval('tarefa_id_seq')")
+    Mono<Long> proximoId();
+}
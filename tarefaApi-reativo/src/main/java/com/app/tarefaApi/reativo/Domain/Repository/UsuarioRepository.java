@@ -0,0 +1,11 @@
+package com.app.tarefaApi.reativo.Domain.Repository;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Usuario;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface UsuarioRepository extends ReactiveCrudRepository<Usuario, Long> {
+    Mono<Usuario> findUserByEmail(String email);
+}
@@ -0,0 +1,7 @@
+package com.app.tarefaApi.reativo.Exception;
+
+public class TaskNotFoundException extends RuntimeException {
+    public TaskNotFoundException(String message){
+        super(message);
+    }
+}
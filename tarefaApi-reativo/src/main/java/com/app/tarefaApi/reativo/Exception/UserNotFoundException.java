@@ -0,0 +1,7 @@
+package com.app.tarefaApi.reativo.Exception;
+
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message){
+        super(message);
+    }
+}
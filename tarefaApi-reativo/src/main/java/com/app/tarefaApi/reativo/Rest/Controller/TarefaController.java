@@ -0,0 +1,76 @@
+package com.app.tarefaApi.reativo.Rest.Controller;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Tarefa;
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import com.app.tarefaApi.reativo.Rest.DTO.TarefaDTO;
+import com.app.tarefaApi.reativo.Service.TarefaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+/**
+ * Mesmos endpoints de /api/tarefas da API servlet. As listagens em application/x-ndjson são enviadas
+ * linha a linha com backpressure; em application/json o WebFlux monta o array antes de responder.
+ */
+@RestController
+@RequestMapping("api/tarefas")
+public class TarefaController {
+    @Autowired
+    private TarefaService tarefaService;
+
+    private static final Logger logger = LoggerFactory.getLogger(TarefaController.class);
+
+
+    @PostMapping
+    public Mono<ResponseEntity<Tarefa>> criarTarefa(@RequestBody TarefaDTO tarefaDTO, Mono<Principal> principal) {
+        logger.debug("Recebendo solicitação para criar tarefa.");
+        return principal
+                .flatMap(usuario -> tarefaService.criarTarefa(tarefaDTO, usuario.getName()))
+                .map(tarefa -> ResponseEntity.status(HttpStatus.CREATED).body(tarefa));
+    }
+
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Tarefa> listarTodasTarefas() {
+        logger.debug("Listando todas as tarefas.");
+        return tarefaService.obterTodasTarefas();
+    }
+
+
+    @GetMapping("/{id}")
+    public Mono<Tarefa> buscarTarefaPorId(@PathVariable Long id) {
+        logger.debug("Buscando tarefa com ID: {}", id);
+        return tarefaService.obterTarefaPorId(id);
+    }
+
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deletarTarefa(@PathVariable Long id, Mono<Principal> principal) {
+        logger.debug("Tentativa de exclusão da tarefa com ID: {}", id);
+        return principal
+                .flatMap(usuario -> tarefaService.excluiTarefa(id, usuario.getName()))
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+
+    @GetMapping(value = "/status/{status}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<Tarefa> buscaTarefaPorStatus(@PathVariable Status status) {
+        logger.debug("Buscando tarefas com status: {}", status);
+        return tarefaService.listaTarefasPorStatus(status);
+    }
+
+
+    @PutMapping("/{id}")
+    public Mono<Tarefa> atualizaTarefa(@PathVariable Long id, @RequestBody TarefaDTO tarefaDTO, Mono<Principal> principal) {
+        logger.debug("Recebendo solicitação para atualizar tarefa com ID: {}", id);
+        return principal.flatMap(usuario -> tarefaService.atualizaTarefa(id, tarefaDTO, usuario.getName()));
+    }
+}
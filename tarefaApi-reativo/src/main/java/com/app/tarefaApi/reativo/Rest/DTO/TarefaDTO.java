@@ -0,0 +1,16 @@
+package com.app.tarefaApi.reativo.Rest.DTO;
+
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaDTO {
+    private long idUsuario;
+    private String titulo;
+    private String descricao;
+    private Status status;
+}
@@ -0,0 +1,35 @@
+package com.app.tarefaApi.reativo.Security.Jwt;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Equivalente reativo do JwtAuthFilter: lê o Bearer token e coloca a autenticação no contexto do Reactor.
+ */
+public class JwtAuthFilter implements WebFilter {
+    private final JwtService jwtService;
+
+    public JwtAuthFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String token = authorization.substring("Bearer ".length());
+            return jwtService.validarToken(token)
+                    .map(claims -> chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                    jwtService.obterAutenticacao(claims))))
+                    .orElseGet(() -> chain.filter(exchange));
+        }
+
+        return chain.filter(exchange);
+    }
+}
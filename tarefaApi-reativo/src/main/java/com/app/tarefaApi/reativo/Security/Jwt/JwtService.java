@@ -0,0 +1,54 @@
+package com.app.tarefaApi.reativo.Security.Jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Valida os tokens emitidos pela API servlet (mesma chave e mesmas claims).
+ */
+@Service
+public class JwtService {
+    public static final String CLAIM_PERFIS = "perfis";
+
+    @Value("${security.jwt.chave-assinatura}")
+    private String chaveAssinatura;
+
+    public Optional<Claims> validarToken(String token) {
+        Claims claims;
+        try {
+            claims = Jwts
+                    .parser()
+                    .setSigningKey(chaveAssinatura)
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+        Date dataExpiracao = claims.getExpiration();
+        if (dataExpiracao == null || dataExpiracao.getTime() < System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Monta a autenticação só com as claims; tokens antigos, sem perfis, recebem o perfil padrão USER.
+     */
+    public Authentication obterAutenticacao(Claims claims) {
+        Object perfis = claims.get(CLAIM_PERFIS);
+        String[] authorities = perfis instanceof Collection
+                ? ((Collection<?>) perfis).stream().map(String::valueOf).toArray(String[]::new)
+                : new String[]{"ROLE_USER"};
+        return new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null, AuthorityUtils.createAuthorityList(authorities));
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.tarefaApi.reativo.Service.Impl;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Tarefa;
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import com.app.tarefaApi.reativo.Domain.Repository.TarefaRepository;
+import com.app.tarefaApi.reativo.Domain.Repository.UsuarioRepository;
+import com.app.tarefaApi.reativo.Exception.TaskNotFoundException;
+import com.app.tarefaApi.reativo.Exception.UserNotFoundException;
+import com.app.tarefaApi.reativo.Rest.DTO.TarefaDTO;
+import com.app.tarefaApi.reativo.Service.TarefaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Service
+public class TarefaServiceImpl implements TarefaService {
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Override
+    public Mono<Tarefa> criarTarefa(TarefaDTO tarefaDTO, String emailAutenticado) {
+        // Criador (usuário autenticado) e responsável são buscados em paralelo
+        Mono<String> nomeCriador = usuarioRepository.findUserByEmail(emailAutenticado)
+                .map(usuario -> usuario.getNomeUsuario())
+                .defaultIfEmpty("");
+        Mono<Long> idUsuario = usuarioRepository.findById(tarefaDTO.getIdUsuario())
+                .switchIfEmpty(Mono.error(new UserNotFoundException("Usuario Inexistente.")))
+                .map(usuario -> usuario.getId());
+
+        return Mono.zip(nomeCriador, idUsuario, tarefaRepository.proximoId())
+                .flatMap(dados -> {
+                    Tarefa tarefa = new Tarefa();
+                    tarefa.setId(dados.getT3());
+                    tarefa.setTitulo(tarefaDTO.getTitulo());
+                    tarefa.setDescricao(tarefaDTO.getDescricao());
+                    tarefa.setStatus(tarefaDTO.getStatus());
+                    tarefa.setIdUsuario(dados.getT2());
+                    tarefa.setDataCriacao(LocalDateTime.now());
+                    tarefa.setCriador(dados.getT1());
+                    tarefa.setEmailCriador(emailAutenticado);
+                    // O id já vem da sequence, então o insert precisa ser explícito (save faria update).
+                    return template.insert(tarefa);
+                });
+    }
+
+    @Override
+    public Mono<Tarefa> obterTarefaPorId(Long id) {
+        return tarefaRepository.findById(id)
+                .switchIfEmpty(Mono.error(new TaskNotFoundException("Tarefa Inexiste")));
+    }
+
+    @Override
+    public Flux<Tarefa> obterTodasTarefas() {
+        return tarefaRepository.findAllByOrderByIdAsc();
+    }
+
+    @Override
+    public Mono<Tarefa> atualizaTarefa(Long id, TarefaDTO tarefaDTO, String emailAutenticado) {
+        return buscarDoCriador(id, emailAutenticado, "Só pode atualizar tarefas criadas por você.")
+                .flatMap(tarefaExistente -> {
+                    tarefaExistente.setTitulo(tarefaDTO.getTitulo());
+                    tarefaExistente.setDescricao(tarefaDTO.getDescricao());
+                    tarefaExistente.setStatus(tarefaDTO.getStatus());
+                    return tarefaRepository.save(tarefaExistente);
+                });
+    }
+
+    @Override
+    public Mono<Void> excluiTarefa(Long id, String emailAutenticado) {
+        return buscarDoCriador(id, emailAutenticado, "Só pode excluir tarefas criadas por você.")
+                .flatMap(tarefaExistente -> tarefaRepository.deleteById(tarefaExistente.getId()));
+    }
+
+    @Override
+    public Flux<Tarefa> listaTarefasPorStatus(Status status) {
+        return tarefaRepository.findTarefaByStatusOrderByIdAsc(status);
+    }
+
+    private Mono<Tarefa> buscarDoCriador(Long id, String emailAutenticado, String mensagemAcessoNegado) {
+        return tarefaRepository.findById(id)
+                .switchIfEmpty(Mono.error(new TaskNotFoundException("Tarefa Inexistente.")))
+                .flatMap(tarefa -> emailAutenticado.equals(tarefa.getEmailCriador())
+                        ? Mono.just(tarefa)
+                        : Mono.error(new AccessDeniedException(mensagemAcessoNegado)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.app.tarefaApi.reativo.Service;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Tarefa;
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import com.app.tarefaApi.reativo.Rest.DTO.TarefaDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+
+public interface TarefaService {
+    Mono<Tarefa> criarTarefa(TarefaDTO tarefaDTO, String emailAutenticado);
+    Mono<Tarefa> obterTarefaPorId(Long id);
+    Flux<Tarefa> obterTodasTarefas();
+    Mono<Tarefa> atualizaTarefa(Long id, TarefaDTO tarefaDTO, String emailAutenticado);
+    Mono<Void> excluiTarefa(Long id, String emailAutenticado);
+    Flux<Tarefa> listaTarefasPorStatus(Status status);
+}
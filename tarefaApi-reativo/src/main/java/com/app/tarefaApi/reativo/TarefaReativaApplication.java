@@ -0,0 +1,13 @@
+package com.app.tarefaApi.reativo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class TarefaReativaApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(TarefaReativaApplication.class, args);
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.app.tarefaApi.reativo;
+
+import com.app.tarefaApi.reativo.Domain.Entity.Tarefa;
+import com.app.tarefaApi.reativo.Domain.Enums.Status;
+import com.app.tarefaApi.reativo.Rest.DTO.TarefaDTO;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class TarefaControllerTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	@Value("${security.jwt.chave-assinatura}")
+	private String chaveAssinatura;
+
+	private Long idUsuario;
+
+	@BeforeEach
+	void criarUsuario() {
+		databaseClient.sql("delete from tarefa").then().block();
+		databaseClient.sql("delete from usuario").then().block();
+		databaseClient.sql("insert into usuario (nome_usuario, senha, email) values ('Maria', 'x', 'maria@teste.com')")
+				.then().block();
+		idUsuario = databaseClient.sql("select id from usuario where email = 'maria@teste.com'")
+				.map(row -> row.get("id", Long.class))
+				.one().block();
+	}
+
+	@Test
+	void criaListaEExcluiTarefa() {
+		String token = "Bearer " + gerarToken("maria@teste.com");
+
+		Tarefa criada = webTestClient.post().uri("/api/tarefas")
+				.header("Authorization", token)
+				.bodyValue(new TarefaDTO(idUsuario, "Titulo", "Descricao", Status.PENDENTE))
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody(Tarefa.class)
+				.returnResult().getResponseBody();
+		assertEquals("Maria", criada.getCriador());
+
+		List<Tarefa> tarefas = webTestClient.get().uri("/api/tarefas/status/PENDENTE")
+				.header("Authorization", token)
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.returnResult(Tarefa.class)
+				.getResponseBody().collectList().block();
+		assertEquals(1, tarefas.size());
+
+		webTestClient.delete().uri("/api/tarefas/{id}", criada.getId())
+				.header("Authorization", "Bearer " + gerarToken("outro@teste.com"))
+				.exchange()
+				.expectStatus().isForbidden();
+
+		webTestClient.delete().uri("/api/tarefas/{id}", criada.getId())
+				.header("Authorization", token)
+				.exchange()
+				.expectStatus().isNoContent();
+
+		webTestClient.get().uri("/api/tarefas/{id}", criada.getId())
+				.header("Authorization", token)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void recusaRequisicaoSemToken() {
+		webTestClient.get().uri("/api/tarefas")
+				.exchange()
+				.expectStatus().isUnauthorized();
+		assertTrue(idUsuario > 0);
+	}
+
+	private String gerarToken(String email) {
+		return Jwts.builder()
+				.setSubject(email)
+				.claim("perfis", List.of("ROLE_USER"))
+				.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+				.signWith(SignatureAlgorithm.HS512, chaveAssinatura)
+				.compact();
+	}
+
+}
@@ -0,0 +1,20 @@
+create table if not exists usuario (
+    id           bigint generated by default as identity primary key,
+    nome_usuario varchar(255),
+    senha        varchar(255),
+    email        varchar(255) not null unique
+);
+
+create sequence if not exists tarefa_id_seq start with 1 increment by 50;
+
+create table if not exists tarefa (
+    id            bigint       primary key,
+    titulo        varchar(255),
+    descricao     varchar(255),
+    status        varchar(255),
+    criador       varchar(255),
+    email_criador varchar(255),
+    data_criacao  timestamp,
+    versao        bigint       not null default 0,
+    usuario_id    bigint references usuario (id)
+);